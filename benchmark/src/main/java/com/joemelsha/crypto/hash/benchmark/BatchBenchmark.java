@@ -0,0 +1,88 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G", "--add-modules=jdk.incubator.vector" })
+@State(Scope.Thread)
+public class BatchBenchmark {
+	private static final int BATCH_SIZE = 64; //@OperationsPerInvocation must be a constant
+
+	@Param({ "Keccak-256", "SHA3-256" })
+	public String algorithm;
+
+	@Param({ "32", "64", "136", "200" })
+	public int payloadSize;
+
+	private Keccak hash;
+	private double megabytes;
+	private ByteBuffer[] inputs, outputs;
+
+	@Setup
+	public void init() {
+		hash = KeccakBenchmark.create(algorithm);
+		megabytes = Payload.megabytes(payloadSize) * BATCH_SIZE;
+		byte[] in = Payload.array(payloadSize);
+		inputs = new ByteBuffer[BATCH_SIZE];
+		outputs = new ByteBuffer[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; ++i) {
+			inputs[i] = Payload.buffer(in, false);
+			outputs[i] = ByteBuffer.allocate(hash.digestSize());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public ByteBuffer[] sequential(Throughput throughput) {
+		Keccak hash = this.hash;
+		for (int i = 0; i < BATCH_SIZE; ++i) {
+			inputs[i].rewind();
+			outputs[i].clear();
+			hash.reset();
+			hash.update(inputs[i]);
+			hash.digest(outputs[i]);
+		}
+		throughput.megabytes += megabytes;
+		return outputs;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public ByteBuffer[] batch(Throughput throughput) {
+		for (int i = 0; i < BATCH_SIZE; ++i) {
+			inputs[i].rewind();
+			outputs[i].clear();
+		}
+		hash.hashBatch(inputs, outputs);
+		throughput.megabytes += megabytes;
+		return outputs;
+	}
+}
@@ -0,0 +1,80 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class GatherBenchmark {
+	//a framed message: header, odd-sized body slices, trailer
+	@Param({ "13,61,61,61,61,9", "24,1000,1000,1000,8" })
+	public String pieceSizes;
+
+	@Param({ "false", "true" })
+	public boolean direct;
+
+	private SHA3 hash;
+	private ByteBuffer[] pieces;
+	private byte[] out;
+
+	@Setup
+	public void init() {
+		hash = new SHA3(256);
+		String[] sizes = pieceSizes.split(",");
+		pieces = new ByteBuffer[sizes.length];
+		for (int i = 0; i < sizes.length; ++i)
+			pieces[i] = Payload.buffer(Payload.array(Integer.parseInt(sizes[i])), direct);
+		out = new byte[32];
+	}
+
+	@Benchmark
+	public byte[] perBuffer() {
+		SHA3 hash = this.hash;
+		hash.reset();
+		for (ByteBuffer piece : pieces) {
+			hash.update(piece);
+			piece.rewind();
+		}
+		hash.digest(out);
+		return out;
+	}
+
+	@Benchmark
+	public byte[] gather() {
+		SHA3 hash = this.hash;
+		hash.reset();
+		hash.update(pieces, 0, pieces.length);
+		for (ByteBuffer piece : pieces)
+			piece.rewind();
+		hash.digest(out);
+		return out;
+	}
+}
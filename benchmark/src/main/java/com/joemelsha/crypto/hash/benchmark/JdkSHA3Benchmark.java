@@ -0,0 +1,74 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.security.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class JdkSHA3Benchmark {
+	@Param({ "224", "256", "384", "512" })
+	public int digestSizeBits;
+
+	@Param({ "32", "64", "136", "1024", "16777216" })
+	public int payloadSize;
+
+	private MessageDigest digest;
+	private double megabytes;
+	private byte[] in, out;
+	private ByteBuffer directIn;
+
+	@Setup
+	public void init() throws NoSuchAlgorithmException {
+		digest = MessageDigest.getInstance("SHA3-" + digestSizeBits); //requires Java 9+
+		megabytes = Payload.megabytes(payloadSize);
+		in = Payload.array(payloadSize);
+		out = new byte[digest.getDigestLength()];
+		directIn = Payload.buffer(in, true);
+	}
+
+	@Benchmark
+	public byte[] array(Throughput throughput) throws DigestException {
+		MessageDigest digest = this.digest;
+		digest.update(in, 0, in.length);
+		digest.digest(out, 0, out.length);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+
+	@Benchmark
+	public byte[] directBuffer(Throughput throughput) throws DigestException {
+		MessageDigest digest = this.digest;
+		directIn.rewind();
+		digest.update(directIn);
+		digest.digest(out, 0, out.length);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+}
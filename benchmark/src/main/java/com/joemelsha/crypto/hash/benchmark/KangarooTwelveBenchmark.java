@@ -0,0 +1,72 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class KangarooTwelveBenchmark {
+	@Param({ "1024", "1048576", "67108864" })
+	public int payloadSize;
+
+	private KangarooTwelve sequential, parallel;
+	private double megabytes;
+	private ByteBuffer in;
+	private byte[] out;
+
+	@Setup
+	public void init() {
+		sequential = new KangarooTwelve(new byte[0], null);
+		parallel = new KangarooTwelve(new byte[0], ForkJoinPool.commonPool());
+		megabytes = Payload.megabytes(payloadSize);
+		in = Payload.buffer(Payload.array(payloadSize), true);
+		out = new byte[32];
+	}
+
+	@Benchmark
+	public byte[] sequential(Throughput throughput) {
+		return hash(sequential, throughput);
+	}
+
+	@Benchmark
+	public byte[] parallel(Throughput throughput) {
+		return hash(parallel, throughput);
+	}
+
+	private byte[] hash(KangarooTwelve hash, Throughput throughput) {
+		hash.reset();
+		in.rewind();
+		hash.update(in);
+		hash.digest(out);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+}
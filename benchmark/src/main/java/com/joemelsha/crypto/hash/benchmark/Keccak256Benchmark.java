@@ -0,0 +1,75 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class Keccak256Benchmark {
+	@Param({ "20", "32", "64" })
+	public int payloadSize;
+
+	private Keccak hash;
+	private byte[] in, out;
+
+	@Setup
+	public void init() {
+		hash = new Keccak(256);
+		in = Payload.array(payloadSize);
+		out = new byte[32];
+	}
+
+	@Benchmark
+	public byte[] instance() {
+		Keccak hash = this.hash;
+		hash.reset();
+		hash.update(in);
+		hash.digest(out);
+		return out;
+	}
+
+	@Benchmark
+	public byte[] oneShot() {
+		Keccak.keccak256(in, 0, in.length, out, 0);
+		return out;
+	}
+
+	@Benchmark
+	public byte[] kernel() {
+		//@formatter:off
+		switch (payloadSize) {
+			case 32: Keccak.keccak256_32(in, 0, out, 0); break;
+			case 64: Keccak.keccak256_64(in, 0, out, 0); break;
+			default: Keccak.keccak256Block(in, 0, in.length, out, 0); break;
+		}
+		//@formatter:on
+		return out;
+	}
+}
@@ -0,0 +1,100 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class KeccakBenchmark {
+	@Param({ "Keccak-128", "Keccak-224", "Keccak-256", "Keccak-288", "Keccak-384", "Keccak-512", "SHA3-224", "SHA3-256", "SHA3-384", "SHA3-512", "SHAKE128", "SHAKE256" })
+	public String algorithm;
+
+	@Param({ "32", "64", "136", "1024", "16777216" })
+	public int payloadSize;
+
+	private Keccak hash;
+	private double megabytes;
+	private byte[] in, out;
+	private ByteBuffer heapIn, heapOut, directIn, directOut;
+
+	@Setup
+	public void init() {
+		hash = create(algorithm);
+		megabytes = Payload.megabytes(payloadSize);
+		in = Payload.array(payloadSize);
+		out = new byte[hash.digestSize()];
+		heapIn = Payload.buffer(in, false);
+		heapOut = ByteBuffer.allocate(out.length);
+		directIn = Payload.buffer(in, true);
+		directOut = ByteBuffer.allocateDirect(out.length);
+	}
+
+	@Benchmark
+	public byte[] array(Throughput throughput) {
+		Keccak hash = this.hash;
+		hash.reset();
+		hash.update(in, 0, in.length);
+		hash.digest(out, 0, out.length);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+
+	@Benchmark
+	public ByteBuffer heapBuffer(Throughput throughput) {
+		return buffer(heapIn, heapOut, throughput);
+	}
+
+	@Benchmark
+	public ByteBuffer directBuffer(Throughput throughput) {
+		return buffer(directIn, directOut, throughput);
+	}
+
+	private ByteBuffer buffer(ByteBuffer in, ByteBuffer out, Throughput throughput) {
+		Keccak hash = this.hash;
+		hash.reset();
+		in.rewind();
+		hash.update(in);
+		out.clear();
+		hash.digest(out);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+
+	static Keccak create(String algorithm) {
+		if (algorithm.startsWith("Keccak-"))
+			return new Keccak(Integer.parseInt(algorithm.substring(7)));
+		if (algorithm.startsWith("SHA3-"))
+			return new SHA3(Integer.parseInt(algorithm.substring(5)));
+		if (algorithm.startsWith("SHAKE"))
+			return new SHAKE(Integer.parseInt(algorithm.substring(5)));
+		throw new IllegalArgumentException("Invalid algorithm: " + algorithm);
+	}
+}
@@ -0,0 +1,71 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class NonceSearchBenchmark {
+	//one attempt per op against an unreachable target, so every attempt runs to the comparison
+	@Param({ "76", "132" })
+	public int headerSize;
+
+	private SHA3 hash;
+	private Keccak.Snapshot header;
+	private KeccakNonceSearch search;
+	private byte[] nonce, out;
+	private long next;
+
+	@Setup
+	public void init() {
+		hash = new SHA3(256);
+		hash.update(Payload.array(headerSize));
+		header = hash.snapshot();
+		search = KeccakNonceSearch.leadingZeroBits(hash, 256);
+		nonce = new byte[8];
+		out = new byte[32];
+	}
+
+	@Benchmark
+	public boolean restore() {
+		long n = next++;
+		for (int i = 0; i < 8; ++i)
+			nonce[i] = (byte) (n >>> (i << 3));
+		hash.restore(header);
+		hash.update(nonce);
+		hash.digest(out);
+		return out[0] == 0 && out[1] == 0;
+	}
+
+	@Benchmark
+	public boolean midstate() {
+		return search.matches(next++);
+	}
+}
@@ -0,0 +1,63 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.joemelsha.crypto.hash.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class OneShotBenchmark {
+	@Param({ "32", "64", "136", "1024" })
+	public int payloadSize;
+
+	private double megabytes;
+	private byte[] in, out;
+
+	@Setup
+	public void init() {
+		megabytes = Payload.megabytes(payloadSize);
+		in = Payload.array(payloadSize);
+		out = new byte[32];
+	}
+
+	@Benchmark
+	public byte[] instance(Throughput throughput) {
+		SHA3 hash = new SHA3(256);
+		hash.update(in);
+		throughput.megabytes += megabytes;
+		return hash.digestArray();
+	}
+
+	@Benchmark
+	public byte[] oneShot(Throughput throughput) {
+		SHA3.sha3_256(in, 0, in.length, out, 0);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+}
@@ -0,0 +1,48 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.nio.*;
+import java.util.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class Payload {
+	public static final long RANDOM_SEED = 13636363L;
+
+	private Payload() {
+	}
+
+	public static byte[] array(int size) {
+		byte[] in = new byte[size];
+		new Random(RANDOM_SEED).nextBytes(in);
+		return in;
+	}
+
+	public static ByteBuffer buffer(byte[] in, boolean direct) {
+		ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(in.length) : ByteBuffer.allocate(in.length);
+		buffer.put(in);
+		buffer.flip();
+		return buffer;
+	}
+
+	public static double megabytes(int size) {
+		return size / (1024.0 * 1024.0);
+	}
+}
@@ -0,0 +1,62 @@
+package com.joemelsha.crypto.hash.benchmark;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.spongycastle.crypto.digests.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1G", "-Xmx1G" })
+@State(Scope.Thread)
+public class SpongyCastleBenchmark {
+	@Param({ "224", "256", "288", "384", "512" })
+	public int digestSizeBits;
+
+	@Param({ "32", "64", "136", "1024", "16777216" })
+	public int payloadSize;
+
+	private KeccakDigest digest;
+	private double megabytes;
+	private byte[] in, out;
+
+	@Setup
+	public void init() {
+		digest = new KeccakDigest(digestSizeBits);
+		megabytes = Payload.megabytes(payloadSize);
+		in = Payload.array(payloadSize);
+		out = new byte[digest.getDigestSize()];
+	}
+
+	@Benchmark
+	public byte[] array(Throughput throughput) {
+		KeccakDigest digest = this.digest;
+		digest.reset();
+		digest.update(in, 0, in.length);
+		digest.doFinal(out, 0);
+		throughput.megabytes += megabytes;
+		return out;
+	}
+}
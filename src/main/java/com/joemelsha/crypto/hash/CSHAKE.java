@@ -0,0 +1,132 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.util.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class CSHAKE extends Keccak {
+	private final byte[] functionName, customization;
+	private final Object tag; //N and S, compared by content
+	private Snapshot prefix; //the state after bytepad(encode_string(N) || encode_string(S)), shared by copies
+	private int prefixRateSizeBits;
+
+	public CSHAKE(int digestSizeBits, byte[] functionName, byte[] customization) {
+		super(digestSizeBits);
+		this.functionName = functionName.clone();
+		this.customization = customization.clone();
+		tag = Arrays.asList(ByteBuffer.wrap(this.functionName), ByteBuffer.wrap(this.customization));
+		reset();
+	}
+
+	public CSHAKE(CSHAKE other) {
+		super(other);
+		functionName = other.functionName;
+		customization = other.customization;
+		tag = other.tag;
+		prefix = other.prefix;
+		prefixRateSizeBits = other.prefixRateSizeBits;
+	}
+
+	@Override
+	public String toString() {
+		return "cSHAKE" + digestSizeBits;
+	}
+
+	private boolean isSHAKE() {
+		return functionName.length <= 0 && customization.length <= 0;
+	}
+
+	@Override
+	protected void reset(int rateSizebits, int digestSizeBits) {
+		super.reset(rateSizebits, digestSizeBits);
+		if (functionName == null || isSHAKE()) //still constructing, or plain SHAKE
+			return;
+		if (prefixRateSizeBits == rateSizebits) {
+			restore(prefix);
+			return;
+		}
+		leftEncode(rateSizebits >>> 3);
+		encodeString(functionName);
+		encodeString(customization);
+		padBlock();
+		prefix = snapshot(); //a fresh one, copies may still hold the old
+		prefixRateSizeBits = rateSizebits;
+	}
+
+	@Override
+	protected Object tag() {
+		return tag;
+	}
+
+	@Override
+	Snapshot batchPrefix() {
+		return isSHAKE() ? null : prefix;
+	}
+
+	@Override
+	protected void pad() {
+		if (isSHAKE())
+			updateBits(0x0f, 4);
+		else
+			updateBits(0x00, 2);
+		super.pad();
+	}
+
+	@Override
+	protected int rateSizeBitsFor(int digestSizeBits) {
+		//@formatter:off
+		switch (digestSizeBits) {
+			case 128: return 1344;
+			case 256: return 1088;
+			default: throw new IllegalArgumentException("Invalid digestSizeBits: " + digestSizeBits + " ⊄ { 128, 256 }");
+		}
+		//@formatter:on
+	}
+
+	//NIST SP 800-185 encodings, absorbed straight into the sponge
+
+	void leftEncode(long x) {
+		int bits = encodedBits(x);
+		updateBits(bits >>> 3, 8);
+		updateBits(Long.reverseBytes(x) >>> -bits, bits);
+	}
+
+	void rightEncode(long x) {
+		int bits = encodedBits(x);
+		updateBits(Long.reverseBytes(x) >>> -bits, bits);
+		updateBits(bits >>> 3, 8);
+	}
+
+	private static int encodedBits(long x) {
+		int bits = (64 - Long.numberOfLeadingZeros(x) + 7) & ~0x7;
+		return bits > 0 ? bits : 8;
+	}
+
+	void encodeString(byte[] s) {
+		encodeString(s, 0, s.length);
+	}
+
+	void encodeString(byte[] s, int offset, int length) {
+		leftEncode((long) length << 3);
+		update(s, offset, length);
+	}
+}
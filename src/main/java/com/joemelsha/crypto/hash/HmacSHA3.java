@@ -0,0 +1,119 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class HmacSHA3 extends KeccakFunction {
+	private static final byte IPAD = 0x36, OPAD = 0x5c;
+
+	private final SHA3 inner, outer;
+	private final Keccak.Snapshot innerKey, outerKey;
+	private final byte[] innerDigest;
+	private int outBytes = -1; //of the MAC written so far, -1 until the inner hash is finished
+
+	/**
+	 * Absorbs the padded key into the inner and outer sponges once; every message then starts from a copy of them.
+	 * As with {@link KMAC}, the digest calls of one message write consecutive parts of its {@link #digestSize()}
+	 * byte MAC, and {@link #reset()} starts the next message.
+	 */
+	public HmacSHA3(int digestSizeBits, byte[] key) {
+		inner = new SHA3(digestSizeBits);
+		outer = new SHA3(digestSizeBits);
+		int blockSize = inner.rateSize();
+		if (key.length > blockSize) {
+			inner.update(key);
+			key = inner.digestArray();
+			inner.reset();
+		}
+
+		byte[] block = new byte[blockSize];
+		System.arraycopy(key, 0, block, 0, key.length);
+		for (int i = 0; i < blockSize; ++i)
+			block[i] ^= IPAD;
+		inner.update(block);
+		innerKey = inner.snapshot();
+		for (int i = 0; i < blockSize; ++i)
+			block[i] ^= IPAD ^ OPAD;
+		outer.update(block);
+		outerKey = outer.snapshot();
+		innerDigest = new byte[inner.digestSize()];
+	}
+
+	@Override
+	public String toString() {
+		return "HmacSHA3-" + (inner.digestSize() << 3);
+	}
+
+	@Override
+	public int digestSize() {
+		return innerDigest.length;
+	}
+
+	public void reset() {
+		inner.restore(innerKey);
+		outBytes = -1;
+	}
+
+	public void update(byte in) {
+		inner.update(in);
+	}
+
+	public void update(byte[] in) {
+		inner.update(in);
+	}
+
+	public void update(byte[] in, int offset, int length) {
+		inner.update(in, offset, length);
+	}
+
+	public void update(ByteBuffer in) {
+		inner.update(in);
+	}
+
+	@Override
+	public void digest(byte[] out, int offset, int length) {
+		finish(length);
+		outer.digest(out, offset, length);
+		outBytes += length;
+	}
+
+	@Override
+	public void digest(ByteBuffer out) {
+		int length = out.remaining();
+		finish(length);
+		outer.digest(out);
+		outBytes += length;
+	}
+
+	private void finish(int length) {
+		//checked first, so a request past the end leaves the message as it was
+		int remaining = innerDigest.length - Math.max(outBytes, 0);
+		if (length > remaining)
+			throw new IllegalArgumentException("Invalid length: " + length + " > " + remaining);
+		if (outBytes < 0) {
+			inner.digest(innerDigest);
+			outer.restore(outerKey);
+			outer.update(innerDigest);
+			outBytes = 0;
+		}
+	}
+}
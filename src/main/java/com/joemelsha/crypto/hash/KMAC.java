@@ -0,0 +1,104 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KMAC extends KeccakFunction {
+	private static final byte[] FUNCTION_NAME = "KMAC".getBytes(Charset.forName("US-ASCII"));
+
+	private final CSHAKE sponge;
+	private final Keccak.Snapshot key;
+	private final int digestSizeBits;
+	private boolean padded;
+
+	public KMAC(int securityBits, byte[] key, byte[] customization) {
+		this(securityBits, key, customization, securityBits << 1);
+	}
+
+	/**
+	 * Absorbs {@code bytepad(encode_string(key), rateSize())} once; every message then starts from a copy of that state.
+	 *
+	 * @param securityBits    128 or 256, i.e. KMAC128 or KMAC256
+	 * @param digestSizeBits  L, or 0 for KMACXOF
+	 */
+	public KMAC(int securityBits, byte[] key, byte[] customization, int digestSizeBits) {
+		if (digestSizeBits < 0 || (digestSizeBits & 0x7) > 0)
+			throw new IllegalArgumentException("Invalid digestSizeBits: " + digestSizeBits);
+		sponge = new CSHAKE(securityBits, FUNCTION_NAME, customization);
+		sponge.leftEncode(sponge.rateSize());
+		sponge.encodeString(key);
+		sponge.padBlock();
+		this.key = sponge.snapshot();
+		this.digestSizeBits = digestSizeBits;
+	}
+
+	@Override
+	public String toString() {
+		return "KMAC" + (sponge.digestSizeBits) + (digestSizeBits > 0 ? "" : "XOF");
+	}
+
+	@Override
+	public int digestSize() {
+		return digestSizeBits > 0 ? digestSizeBits >>> 3 : sponge.digestSize() << 1;
+	}
+
+	public void reset() {
+		sponge.restore(key);
+		padded = false;
+	}
+
+	public void update(byte in) {
+		sponge.update(in);
+	}
+
+	public void update(byte[] in) {
+		sponge.update(in);
+	}
+
+	public void update(byte[] in, int offset, int length) {
+		sponge.update(in, offset, length);
+	}
+
+	public void update(ByteBuffer in) {
+		sponge.update(in);
+	}
+
+	@Override
+	public void digest(byte[] out, int offset, int length) {
+		pad();
+		sponge.digest(out, offset, length);
+	}
+
+	@Override
+	public void digest(ByteBuffer out) {
+		pad();
+		sponge.digest(out);
+	}
+
+	private void pad() {
+		if (!padded) {
+			sponge.rightEncode(digestSizeBits);
+			padded = true;
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KangarooTwelve extends KeccakFunction {
+	private static final int CHUNK_SIZE = 8192;
+	private static final int CV_SIZE = 32;
+	private static final int FORK_CHUNKS = 8; //leaves per fork-join task, hashed together by hashBatch
+	private static final int BATCH_CHUNKS = 256; //leaves per parallel round trip (2 MiB of input)
+	private static final int DOMAIN_SINGLE = 0x07, DOMAIN_LEAF = 0x0B, DOMAIN_FINAL = 0x06;
+	private static final byte[] CHUNK_0_SUFFIX = { 0x03, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00 };
+	private static final byte[] FINAL_SUFFIX = { (byte) 0xff, (byte) 0xff };
+
+	private final byte[] customization;
+	private final ForkJoinPool pool;
+	private final TurboSHAKE finalNode = new TurboSHAKE(128, DOMAIN_FINAL);
+	private final TurboSHAKE leaf = new TurboSHAKE(128, DOMAIN_LEAF);
+	private final byte[] chainingValues = new byte[BATCH_CHUNKS * CV_SIZE];
+	private long leaves;
+	private int chunkBytes;
+	private boolean tree, padded;
+
+	public KangarooTwelve() {
+		this(new byte[0]);
+	}
+
+	public KangarooTwelve(byte[] customization) {
+		this(customization, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param pool hashes the 8 KiB leaves of large inputs in parallel; {@code null} hashes them on the calling thread
+	 */
+	public KangarooTwelve(byte[] customization, ForkJoinPool pool) {
+		this.customization = customization.clone();
+		this.pool = pool;
+	}
+
+	public static byte[] hash(byte[] in, int outSize) {
+		return hash(ByteBuffer.wrap(in), new byte[0], outSize);
+	}
+
+	public static byte[] hash(ByteBuffer in, byte[] customization, int outSize) {
+		KangarooTwelve hash = new KangarooTwelve(customization);
+		hash.update(in);
+		return hash.digestArray(outSize);
+	}
+
+	@Override
+	public String toString() {
+		return "KangarooTwelve";
+	}
+
+	@Override
+	public int digestSize() {
+		return CV_SIZE;
+	}
+
+	public void reset() {
+		finalNode.reset();
+		leaf.reset();
+		leaves = 0;
+		chunkBytes = 0;
+		tree = false;
+		padded = false;
+	}
+
+	public void update(byte in) {
+		update(new byte[] { in });
+	}
+
+	public void update(byte[] in) {
+		update(ByteBuffer.wrap(in));
+	}
+
+	public void update(byte[] in, int offset, int length) {
+		update(ByteBuffer.wrap(in, offset, length));
+	}
+
+	public void update(ByteBuffer in) {
+		if (padded)
+			throw new IllegalStateException("Cannot update while padded");
+
+		while (in.hasRemaining()) {
+			if (!tree) {
+				if (chunkBytes < CHUNK_SIZE) {
+					chunkBytes += absorb(finalNode, in, CHUNK_SIZE - chunkBytes);
+					continue;
+				}
+				//more than one chunk: S_0 stays in the final node, the rest become leaves
+				finalNode.update(CHUNK_0_SUFFIX);
+				tree = true;
+				chunkBytes = 0;
+			}
+
+			int remaining = in.remaining();
+			if (chunkBytes <= 0 && remaining >= CHUNK_SIZE) {
+				updateLeaves(in, Math.min(remaining / CHUNK_SIZE, BATCH_CHUNKS));
+			} else {
+				chunkBytes += absorb(leaf, in, CHUNK_SIZE - chunkBytes);
+				if (chunkBytes >= CHUNK_SIZE)
+					finishLeaf();
+			}
+		}
+	}
+
+	private void updateLeaves(ByteBuffer in, int count) {
+		int position = in.position();
+		if (pool != null && count > FORK_CHUNKS) {
+			pool.invoke(new Leaves(in, position, chainingValues, 0, count));
+		} else {
+			for (int i = 0; i < count; i += FORK_CHUNKS)
+				new Leaves(in, position + i * CHUNK_SIZE, chainingValues, i * CV_SIZE, Math.min(FORK_CHUNKS, count - i)).compute();
+		}
+		finalNode.update(chainingValues, 0, count * CV_SIZE);
+		in.position(position + count * CHUNK_SIZE);
+		this.leaves += count;
+	}
+
+	private void finishLeaf() {
+		leaf.digest(chainingValues, 0, CV_SIZE);
+		finalNode.update(chainingValues, 0, CV_SIZE);
+		leaf.reset();
+		leaves++;
+		chunkBytes = 0;
+	}
+
+	@Override
+	public void digest(ByteBuffer out) {
+		if (!padded) {
+			update(customization);
+			update(lengthEncode(customization.length));
+			if (tree) {
+				if (chunkBytes > 0)
+					finishLeaf();
+				finalNode.update(lengthEncode(leaves));
+				finalNode.update(FINAL_SUFFIX);
+				finalNode.domain(DOMAIN_FINAL);
+			} else {
+				finalNode.domain(DOMAIN_SINGLE);
+			}
+			padded = true;
+		}
+		finalNode.digest(out);
+	}
+
+	private static int absorb(Keccak sponge, ByteBuffer in, int max) {
+		int length = in.remaining();
+		if (length <= max) {
+			sponge.update(in);
+			return length;
+		}
+		int limit = in.limit();
+		in.limit(in.position() + max);
+		sponge.update(in);
+		in.limit(limit);
+		return max;
+	}
+
+	private static byte[] lengthEncode(long x) {
+		int n = (64 - Long.numberOfLeadingZeros(x) + 7) >>> 3;
+		byte[] out = new byte[n + 1];
+		for (int i = n - 1; i >= 0; --i) {
+			out[i] = (byte) x;
+			x >>>= 8;
+		}
+		out[n] = (byte) n;
+		return out;
+	}
+
+	private static final class Leaves extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final ByteBuffer in;
+		private final int position;
+		private final byte[] out;
+		private final int offset, count;
+
+		Leaves(ByteBuffer in, int position, byte[] out, int offset, int count) {
+			this.in = in;
+			this.position = position;
+			this.out = out;
+			this.offset = offset;
+			this.count = count;
+		}
+
+		@Override
+		protected void compute() {
+			int count = this.count;
+			if (count > FORK_CHUNKS) {
+				int half = ((count >>> 1) + FORK_CHUNKS - 1) & -FORK_CHUNKS; //keep full hashBatch groups
+				invokeAll(new Leaves(in, position, out, offset, half), new Leaves(in, position + half * CHUNK_SIZE, out, offset + half * CV_SIZE, count - half));
+				return;
+			}
+
+			ByteBuffer[] chunks = new ByteBuffer[count];
+			ByteBuffer[] chainingValues = new ByteBuffer[count];
+			for (int i = 0; i < count; ++i) {
+				int p = position + i * CHUNK_SIZE;
+				ByteBuffer chunk = in.duplicate();
+				chunk.limit(p + CHUNK_SIZE);
+				chunk.position(p);
+				chunks[i] = chunk;
+				chainingValues[i] = ByteBuffer.wrap(out, offset + i * CV_SIZE, CV_SIZE);
+			}
+			new TurboSHAKE(128, DOMAIN_LEAF).hashBatch(chunks, chainingValues);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.joemelsha.crypto.hash;
 
 import java.nio.*;
+import java.util.*;
 
 /**
  * @author Joseph Robert Melsha (joe.melsha@live.com)
@@ -25,18 +26,36 @@ import java.nio.*;
 public class Keccak {
 	private static final int MAX_STATE_SIZE = 1600;
 	private static final int MAX_STATE_SIZE_WORDS = MAX_STATE_SIZE / 64;
+	private static final int MAX_ROUNDS = 24;
+	private static final int VECTOR_LANES = KeccakVector.lanes();
+	private static final int BATCH_LANES = VECTOR_LANES > 4 ? VECTOR_LANES : 4;
+	private static final KeccakPermutation PERMUTATION = KeccakPermutations.select();
+	private static final boolean METRICS = KeccakMetrics.ENABLED;
 
 	protected int rateSizeBits, digestSizeBits;
+	protected final int rounds;
 	private long[] state = new long[MAX_STATE_SIZE_WORDS];
 	private int rateBits;
 	private boolean padded;
+	private KeccakMetrics metrics;
 
 	public Keccak(int digestSizeBits) {
+		this(digestSizeBits, MAX_ROUNDS);
+	}
+
+	/**
+	 * Keccak[c] on the reduced-round Keccak-p[1600, rounds] permutation, i.e. its last {@code rounds} rounds.
+	 */
+	protected Keccak(int digestSizeBits, int rounds) {
+		if (rounds <= 0 || rounds > MAX_ROUNDS)
+			throw new IllegalArgumentException("Invalid rounds: " + rounds + " ⊄ [ 1, " + MAX_ROUNDS + " ]");
+		this.rounds = rounds;
 		reset(digestSizeBits);
 	}
 
 	public Keccak(Keccak other) {
 		System.arraycopy(other.state, 0, state, 0, other.state.length);
+		rounds = other.rounds;
 		rateBits = other.rateBits;
 		rateSizeBits = other.rateSizeBits;
 		digestSizeBits = other.digestSizeBits;
@@ -56,6 +75,13 @@ public class Keccak {
 		return digestSizeBits >>> 3;
 	}
 
+	/**
+	 * The permutation engine every instance in this JVM runs on, picked once when the class is loaded.
+	 */
+	public static KeccakPermutation permutation() {
+		return PERMUTATION;
+	}
+
 	public void reset() {
 		reset(rateSizeBits, digestSizeBits);
 	}
@@ -79,10 +105,14 @@ public class Keccak {
 	}
 
 	protected void reset(int rateSizebits, int digestSizeBits) {
-		if (rateSizebits + digestSizeBits * 2 != MAX_STATE_SIZE)
-			throw new IllegalArgumentException("Invalid rateSizebits + digestSizeBits * 2: " + rateSizebits + " + " + digestSizeBits + " * 2 != " + MAX_STATE_SIZE);
-		if (rateSizebits <= 0 || (rateSizebits & 0x3f) > 0)
-			throw new IllegalArgumentException("Invalid rateSizebits: " + rateSizebits);
+		//the sizes in use were checked when they were set
+		if (rateSizebits != rateSizeBits || digestSizeBits != this.digestSizeBits) {
+			if (rateSizebits + digestSizeBits * 2 != MAX_STATE_SIZE)
+				throw new IllegalArgumentException("Invalid rateSizebits + digestSizeBits * 2: " + rateSizebits + " + " + digestSizeBits + " * 2 != " + MAX_STATE_SIZE);
+			if (rateSizebits <= 0 || (rateSizebits & 0x3f) > 0)
+				throw new IllegalArgumentException("Invalid rateSizebits: " + rateSizebits);
+			metrics = null;
+		}
 
 		for (int i = 0; i < MAX_STATE_SIZE_WORDS; ++i)
 			state[i] = 0;
@@ -93,23 +123,167 @@ public class Keccak {
 		padded = false;
 	}
 
+	/**
+	 * Captures the sponge midstate, e.g. after absorbing a shared prefix, so it can be {@link #restore(Snapshot)
+	 * restored} any number of times without paying for the prefix's permutations again.
+	 */
+	public Snapshot snapshot() {
+		return snapshot(new Snapshot());
+	}
+
+	/**
+	 * Like {@link #snapshot()}, but overwrites {@code snapshot} rather than allocating a new one.
+	 */
+	public Snapshot snapshot(Snapshot snapshot) {
+		if (!padded && rateBits >= rateSizeBits) {
+			//permute a full block now rather than on every restore
+			permute();
+			rateBits = 0;
+		}
+		System.arraycopy(state, 0, snapshot.state, 0, MAX_STATE_SIZE_WORDS);
+		snapshot.type = getClass();
+		snapshot.tag = tag();
+		snapshot.rounds = rounds;
+		snapshot.rateSizeBits = rateSizeBits;
+		snapshot.digestSizeBits = digestSizeBits;
+		snapshot.rateBits = rateBits;
+		snapshot.padded = padded;
+		return snapshot;
+	}
+
+	public void restore(Snapshot snapshot) {
+		if (snapshot.type != getClass() || snapshot.rounds != rounds || !Objects.equals(snapshot.tag, tag()))
+			throw new IllegalArgumentException("Invalid snapshot: " + snapshot + " ⊄ " + this);
+		System.arraycopy(snapshot.state, 0, state, 0, MAX_STATE_SIZE_WORDS);
+		if (snapshot.rateSizeBits != rateSizeBits || snapshot.digestSizeBits != digestSizeBits)
+			metrics = null;
+		rateSizeBits = snapshot.rateSizeBits;
+		digestSizeBits = snapshot.digestSizeBits;
+		rateBits = snapshot.rateBits;
+		padded = snapshot.padded;
+	}
+
+	/**
+	 * What, besides its class, rounds and sizes, tells this instance's function apart from others, e.g. a domain byte;
+	 * {@link #restore(Snapshot)} only accepts snapshots with an {@link Object#equals(Object) equal} tag.
+	 */
+	protected Object tag() {
+		return null;
+	}
+
+	/**
+	 * Overwrites this instance's sponge with that of {@code other}, which must be of the same algorithm.
+	 */
+	public void copyFrom(Keccak other) {
+		if (other.getClass() != getClass() || other.rounds != rounds)
+			throw new IllegalArgumentException("Invalid other: " + other + " ⊄ " + this);
+		System.arraycopy(other.state, 0, state, 0, MAX_STATE_SIZE_WORDS);
+		rateSizeBits = other.rateSizeBits;
+		digestSizeBits = other.digestSizeBits;
+		rateBits = other.rateBits;
+		padded = other.padded;
+		metrics = null;
+	}
+
 	public void update(byte in) {
 		updateBits(in & 0xff, 8);
 	}
 
 	public void update(byte[] in) {
-		update(ByteBuffer.wrap(in));
+		update(in, 0, in.length);
 	}
 
 	public void update(byte[] in, int offset, int length) {
-		update(ByteBuffer.wrap(in, offset, length));
+		if (METRICS) {
+			KeccakFlight event = metrics().begin(length);
+			absorb(in, offset, length);
+			metrics().absorbed(event, length);
+			return;
+		}
+		absorb(in, offset, length);
+	}
+
+	private void absorb(byte[] in, int offset, int length) {
+		checkRange(in, offset, length);
+		if (length <= 0)
+			return;
+
+		if (padded)
+			throw new IllegalStateException("Cannot update while padded");
+
+		int rateBytes = rateBits >>> 3;
+		if ((rateBits & 0x7) > 0)
+			throw new IllegalStateException("Cannot update while in bit-mode");
+
+		long[] state = this.state;
+		for (; (rateBytes & 0x7) > 0; ++rateBytes, --length) { //logically must have space at this point
+			if (length <= 0) {
+				this.rateBits = rateBytes << 3;
+				return;
+			}
+			state[rateBytes >>> 3] ^= (in[offset++] & 0xffL) << ((rateBytes & 0x7) << 3);
+		}
+
+		int rateWords = rateBytes >>> 3;
+		int rateSizeWords = rateSizeBits >>> 6;
+
+		for (int inWords = length >>> 3; inWords > 0;) {
+			if (rateWords >= rateSizeWords) {
+				permute();
+				rateWords = 0;
+			}
+			int c = rateSizeWords - rateWords;
+			if (c > inWords)
+				c = inWords;
+			inWords -= c;
+			c += rateWords;
+			do {
+				state[rateWords] ^= LittleEndian.getLong(in, offset);
+				offset += 8;
+			} while (++rateWords < c);
+		}
+
+		length &= 0x7;
+		if (length <= 0) {
+			this.rateBits = rateWords << 6;
+			return;
+		}
+
+		if (rateWords >= rateSizeWords) {
+			permute();
+			rateWords = 0;
+		}
+		long w = state[rateWords];
+		length <<= 3;
+		for (int i = 0; i < length; i += 8)
+			w ^= (in[offset++] & 0xffL) << i;
+		state[rateWords] = w;
+
+		this.rateBits = (rateWords << 6) | length;
 	}
 
 	public void update(ByteBuffer in) {
+		if (METRICS) {
+			int inBytes = in.remaining();
+			KeccakFlight event = metrics().begin(inBytes);
+			absorb(in);
+			metrics().absorbed(event, inBytes);
+			return;
+		}
+		absorb(in);
+	}
+
+	private void absorb(ByteBuffer in) {
 		int inBytes = in.remaining();
 		if (inBytes <= 0)
 			return;
 
+		if (in.hasArray()) {
+			absorb(in.array(), in.arrayOffset() + in.position(), inBytes);
+			in.position(in.limit());
+			return;
+		}
+
 		if (padded)
 			throw new IllegalStateException("Cannot update while padded");
 
@@ -154,7 +328,7 @@ public class Keccak {
 				in.order(ByteOrder.LITTLE_ENDIAN);
 				do {
 					if (rateWords >= rateSizeWords) {
-						keccak(state);
+						permute();
 						rateWords = 0;
 					}
 					int c = rateSizeWords - rateWords;
@@ -178,7 +352,7 @@ public class Keccak {
 		}
 
 		if (rateWords >= rateSizeWords) {
-			keccak(state);
+			permute();
 			rateWords = 0;
 		}
 		long w = state[rateWords];
@@ -193,6 +367,90 @@ public class Keccak {
 		this.rateBits = (rateWords << 6) | inBytes;
 	}
 
+	/**
+	 * Absorbs the remaining bytes of {@code srcs[offset] .. srcs[offset + length - 1]} in order, as one message, like a
+	 * {@link java.nio.channels.GatheringByteChannel} write. A lane left partly filled at the end of one buffer is
+	 * carried into the next, and direct buffers are read in place whatever their byte order; each buffer's position is
+	 * advanced to its limit.
+	 */
+	public void update(ByteBuffer[] srcs, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > srcs.length - length)
+			throw new IndexOutOfBoundsException("Invalid range: " + offset + " + " + length + " > " + srcs.length);
+		if (METRICS) {
+			long inBytes = 0;
+			for (int b = offset; b < offset + length; ++b)
+				inBytes += srcs[b].remaining();
+			KeccakFlight event = metrics().begin(inBytes);
+			gather(srcs, offset, length);
+			metrics().absorbed(event, inBytes);
+			return;
+		}
+		gather(srcs, offset, length);
+	}
+
+	private void gather(ByteBuffer[] srcs, int offset, int length) {
+		if (padded)
+			throw new IllegalStateException("Cannot update while padded");
+		if ((rateBits & 0x7) > 0)
+			throw new IllegalStateException("Cannot update while in bit-mode");
+
+		long[] state = this.state;
+		int rateSizeWords = rateSizeBits >>> 6;
+		int rateWords = rateBits >>> 6;
+		int laneBits = rateBits & 0x3f; //of the lane at rateWords, whose new bytes collect in w
+		long w = 0;
+		for (int b = offset; b < offset + length; ++b) {
+			ByteBuffer in = srcs[b];
+			int n = in.remaining();
+			if (n <= 0)
+				continue;
+			byte[] array = in.hasArray() ? in.array() : null;
+			int p = array != null ? in.arrayOffset() + in.position() : in.position();
+
+			for (; laneBits > 0 && n > 0; --n, ++p) {
+				w ^= ((array != null ? array[p] : in.get(p)) & 0xffL) << laneBits;
+				laneBits = (laneBits + 8) & 0x3f;
+				if (laneBits <= 0) {
+					state[rateWords++] ^= w;
+					w = 0;
+				}
+			}
+
+			if (array != null) {
+				for (; n >= 8; n -= 8, p += 8) {
+					if (rateWords >= rateSizeWords) {
+						permute();
+						rateWords = 0;
+					}
+					state[rateWords++] ^= LittleEndian.getLong(array, p);
+				}
+			} else {
+				//absolute reads leave the caller's byte order alone; reverseBytes is a single instruction
+				boolean swap = in.order() != ByteOrder.LITTLE_ENDIAN;
+				for (; n >= 8; n -= 8, p += 8) {
+					if (rateWords >= rateSizeWords) {
+						permute();
+						rateWords = 0;
+					}
+					long v = in.getLong(p);
+					state[rateWords++] ^= swap ? Long.reverseBytes(v) : v;
+				}
+			}
+
+			if (n > 0 && laneBits <= 0 && rateWords >= rateSizeWords) {
+				permute();
+				rateWords = 0;
+			}
+			for (; n > 0; --n, ++p, laneBits += 8)
+				w ^= ((array != null ? array[p] : in.get(p)) & 0xffL) << laneBits;
+
+			in.position(in.limit());
+		}
+		if (laneBits > 0)
+			state[rateWords] ^= w;
+		this.rateBits = (rateWords << 6) | laneBits;
+	}
+
 	protected void updateBits(long in, int inBits) {
 		if (inBits < 0 || inBits > 64)
 			throw new IllegalArgumentException("Invalid valueBits: " + 0 + " < " + inBits + " > " + 64);
@@ -221,13 +479,24 @@ public class Keccak {
 			in >>>= c;
 		}
 		if (rateBits >= rateSizeBits) {
-			Keccak.keccak(state);
+			permute();
 			rateBits = 0;
 		}
 		state[rateBits >>> 6] ^= in & (-1L >>> -inBits);
 		this.rateBits = rateBits + inBits;
 	}
 
+	/**
+	 * Zero-pads to the end of the rate block, e.g. to complete an SP 800-185 bytepad(..., rateSize()) that began at a
+	 * block boundary.
+	 */
+	void padBlock() {
+		if (padded)
+			throw new IllegalStateException("Cannot update while padded");
+		if (rateBits > 0)
+			rateBits = rateSizeBits;
+	}
+
 	public ByteBuffer digest() {
 		return digest(digestSize());
 	}
@@ -254,23 +523,109 @@ public class Keccak {
 	}
 
 	public void digest(byte[] out) {
-		digest(ByteBuffer.wrap(out));
+		digest(out, 0, out.length);
 	}
 
 	public void digest(byte[] out, int offset, int length) {
-		digest(ByteBuffer.wrap(out, offset, length));
+		if (METRICS) {
+			KeccakFlight event = metrics().begin(length);
+			squeeze(out, offset, length);
+			metrics().squeezed(event, length);
+			return;
+		}
+		squeeze(out, offset, length);
+	}
+
+	private void squeeze(byte[] out, int offset, int length) {
+		checkRange(out, offset, length);
+		if (length <= 0)
+			return;
+
+		long[] state = this.state;
+		int rateBytes;
+		if (!padded) {
+			pad();
+			permute();
+			padded = true;
+			rateBytes = 0;
+		} else {
+			if ((rateBits & 0x7) > 0)
+				throw new IllegalStateException("Cannot digest while in bit-mode"); //this could be implemented but would introduce considerable performance degradation - also, it's never technically possible.
+
+			rateBytes = rateBits >>> 3;
+			for (; (rateBytes & 0x7) > 0; ++rateBytes, --length) {
+				if (length <= 0) {
+					this.rateBits = rateBytes << 3;
+					return;
+				}
+				out[offset++] = (byte) (state[rateBytes >>> 3] >>> ((rateBytes & 0x7) << 3));
+			}
+		}
+
+		int rateSizeWords = rateSizeBits >>> 6;
+		int rateWords = rateBytes >>> 3;
+
+		for (int outWords = length >>> 3; outWords > 0;) {
+			if (rateWords >= rateSizeWords) {
+				squeeze();
+				rateWords = 0;
+			}
+			int c = rateSizeWords - rateWords;
+			if (c > outWords)
+				c = outWords;
+			outWords -= c;
+			c += rateWords;
+			do {
+				LittleEndian.putLong(out, offset, state[rateWords]);
+				offset += 8;
+			} while (++rateWords < c);
+		}
+
+		length &= 0x7;
+		if (length <= 0) {
+			this.rateBits = rateWords << 6;
+			return;
+		}
+
+		if (rateWords >= rateSizeWords) {
+			squeeze();
+			rateWords = 0;
+		}
+		long w = state[rateWords];
+		length <<= 3;
+		for (int i = 0; i < length; i += 8)
+			out[offset++] = (byte) (w >>> i);
+		this.rateBits = (rateWords << 6) | length;
 	}
 
 	public void digest(ByteBuffer out) {
+		if (METRICS) {
+			int outBytes = out.remaining();
+			KeccakFlight event = metrics().begin(outBytes);
+			squeeze(out);
+			metrics().squeezed(event, outBytes);
+			return;
+		}
+		squeeze(out);
+	}
+
+	private void squeeze(ByteBuffer out) {
 		int outBytes = out.remaining();
 		if (outBytes <= 0)
 			return;
 
+		if (out.hasArray()) {
+			squeeze(out.array(), out.arrayOffset() + out.position(), outBytes);
+			out.position(out.limit());
+			return;
+		}
+
 		long[] state = this.state;
 		int rateBits = this.rateBits;
 		int rateBytes;
 		if (!padded) {
 			pad();
+			permute();
 			padded = true;
 			rateBits = 0;
 			rateBytes = 0;
@@ -347,101 +702,390 @@ public class Keccak {
 		this.rateBits = (rateWords << 6) | outBytes;
 	}
 
+	/**
+	 * Hashes each of {@code inputs} into the corresponding {@code outputs} with this instance's algorithm, as if by
+	 * {@code reset(); update(inputs[i]); digest(outputs[i]);}, but advancing several independent sponges in lockstep
+	 * so their permutations can run together - across SIMD lanes where the Vector API is available. The state of this instance is left untouched.
+	 */
+	public void hashBatch(ByteBuffer[] inputs, ByteBuffer[] outputs) {
+		int n = inputs.length;
+		if (outputs.length != n)
+			throw new IllegalArgumentException("Invalid outputs.length: " + outputs.length + " != " + n);
+
+		long[] state = this.state;
+		int rateBits = this.rateBits;
+		boolean padded = this.padded;
+		try {
+			int rateSize = rateSize();
+			Snapshot prefix = batchPrefix();
+			long[][] lanes = new long[BATCH_LANES][MAX_STATE_SIZE_WORDS];
+			long[] scratch = VECTOR_LANES > 0 ? new long[MAX_STATE_SIZE_WORDS * VECTOR_LANES] : null;
+			int[] laneInputs = new int[BATCH_LANES];
+			boolean[] laneDone = new boolean[BATCH_LANES];
+			int laneCount = 0, next = 0;
+			while (true) {
+				while (laneCount < BATCH_LANES && next < n) {
+					long[] lane = lanes[laneCount];
+					if (prefix != null)
+						System.arraycopy(prefix.state, 0, lane, 0, MAX_STATE_SIZE_WORDS);
+					else
+						for (int i = 0; i < MAX_STATE_SIZE_WORDS; ++i)
+							lane[i] = 0;
+					laneInputs[laneCount++] = next++;
+				}
+				if (laneCount <= 0)
+					break;
+
+				//absorb the next block of every lane, padding the ones that run out
+				for (int l = 0; l < laneCount; ++l) {
+					ByteBuffer in = inputs[laneInputs[l]];
+					this.state = lanes[l];
+					this.rateBits = 0;
+					this.padded = false;
+					if (in.remaining() >= rateSize) {
+						int limit = in.limit();
+						in.limit(in.position() + rateSize);
+						update(in);
+						in.limit(limit);
+						laneDone[l] = false;
+					} else {
+						update(in);
+						pad();
+						laneDone[l] = true;
+					}
+				}
+
+				keccak(lanes, laneCount, rounds, scratch);
+				if (METRICS)
+					metrics().permuted(laneCount);
+
+				for (int l = 0; l < laneCount;) {
+					if (!laneDone[l]) {
+						l++;
+						continue;
+					}
+					this.state = lanes[l];
+					this.rateBits = 0;
+					this.padded = true;
+					digest(outputs[laneInputs[l]]);
+
+					//retire the lane by swapping it with the last active one
+					laneCount--;
+					long[] lane = lanes[l];
+					lanes[l] = lanes[laneCount];
+					lanes[laneCount] = lane;
+					laneInputs[l] = laneInputs[laneCount];
+					laneDone[l] = laneDone[laneCount];
+				}
+			}
+		} finally {
+			this.state = state;
+			this.rateBits = rateBits;
+			this.padded = padded;
+		}
+	}
+
+	/**
+	 * The block-aligned state every {@link #hashBatch(ByteBuffer[], ByteBuffer[])} lane starts from, or {@code null} for
+	 * the all-zero one.
+	 */
+	Snapshot batchPrefix() {
+		return null;
+	}
+
+	/**
+	 * Squeezes the next whole lane, skipping to the next lane boundary if the output so far ended inside one.
+	 */
+	long squeezeLong() {
+		int rateBits = this.rateBits;
+		if (!padded) {
+			pad();
+			permute();
+			padded = true;
+			rateBits = 0;
+		} else {
+			rateBits = (rateBits + 0x3f) & ~0x3f;
+		}
+		if (rateBits >= rateSizeBits) {
+			squeeze();
+			rateBits = 0;
+		}
+		this.rateBits = rateBits + 64;
+		return state[rateBits >>> 6];
+	}
+
 	protected void squeeze() {
-		Keccak.keccak(state);
+		permute();
+	}
+
+	/**
+	 * Copies the sponge state to {@code out}, first permuting a full pending block as {@link #snapshot()} does.
+	 *
+	 * @return the number of bytes absorbed into the current block
+	 */
+	int midstate(long[] out) {
+		if (padded || (rateBits & 0x7) > 0)
+			throw new IllegalStateException("Cannot take a midstate while padded or in bit-mode");
+		if (rateBits >= rateSizeBits) {
+			permute();
+			rateBits = 0;
+		}
+		System.arraycopy(state, 0, out, 0, MAX_STATE_SIZE_WORDS);
+		return rateBits >>> 3;
+	}
+
+	/**
+	 * The bits {@link #pad()} XORs into a block holding {@code offset} bytes, {@code offset} &lt; {@link #rateSize()};
+	 * they never spill into another block. This instance is left untouched.
+	 */
+	long[] padding(int offset) {
+		long[] state = this.state;
+		int rateBits = this.rateBits;
+		boolean padded = this.padded;
+		try {
+			this.state = new long[MAX_STATE_SIZE_WORDS];
+			this.rateBits = offset << 3;
+			this.padded = false;
+			pad();
+			return this.state;
+		} finally {
+			this.state = state;
+			this.rateBits = rateBits;
+			this.padded = padded;
+		}
+	}
+
+	private void permute() {
+		keccak(state, rounds);
+		if (METRICS)
+			metrics().permuted(1);
+	}
+
+	private KeccakMetrics metrics() {
+		KeccakMetrics metrics = this.metrics;
+		return metrics != null ? metrics : (this.metrics = KeccakMetrics.of(toString()));
 	}
 
 	protected void pad() {
 		updateBits(0x1, 1);
 		if (rateBits >= rateSizeBits) {
-			Keccak.keccak(state);
+			permute();
 			rateBits = 0;
 		}
 		rateBits = rateSizeBits - 1;
 		updateBits(0x1, 1);
-		Keccak.keccak(state);
 	}
 
-	private static void keccak(long[] a) {
-		//@formatter:off
-		int c, i;
-		long x, a_10_;
-		long x0, x1, x2, x3, x4;
-		long t0, t1, t2, t3, t4;
-		long c0, c1, c2, c3, c4;
-		long[] rc = RC;
-
-		i = 0;
-		do {
-			//theta (precalculation part)
-			c0 = a[0] ^ a[5 + 0] ^ a[10 + 0] ^ a[15 + 0] ^ a[20 + 0];
-			c1 = a[1] ^ a[5 + 1] ^ a[10 + 1] ^ a[15 + 1] ^ a[20 + 1];
-			c2 = a[2] ^ a[5 + 2] ^ a[10 + 2] ^ a[15 + 2] ^ a[20 + 2];
-			c3 = a[3] ^ a[5 + 3] ^ a[10 + 3] ^ a[15 + 3] ^ a[20 + 3];
-			c4 = a[4] ^ a[5 + 4] ^ a[10 + 4] ^ a[15 + 4] ^ a[20 + 4];
-
-			t0 = (c0 << 1) ^ (c0 >>> (64 - 1)) ^ c3;
-			t1 = (c1 << 1) ^ (c1 >>> (64 - 1)) ^ c4;
-			t2 = (c2 << 1) ^ (c2 >>> (64 - 1)) ^ c0;
-			t3 = (c3 << 1) ^ (c3 >>> (64 - 1)) ^ c1;
-			t4 = (c4 << 1) ^ (c4 >>> (64 - 1)) ^ c2;
-
-			//theta (xorring part) + rho + pi
-			a[ 0] ^= t1;
-			x = a[ 1] ^ t2; a_10_ = (x <<  1) | (x >>> (64 -  1));
-			x = a[ 6] ^ t2; a[ 1] = (x << 44) | (x >>> (64 - 44));
-			x = a[ 9] ^ t0; a[ 6] = (x << 20) | (x >>> (64 - 20));
-			x = a[22] ^ t3; a[ 9] = (x << 61) | (x >>> (64 - 61));
-
-			x = a[14] ^ t0; a[22] = (x << 39) | (x >>> (64 - 39));
-			x = a[20] ^ t1; a[14] = (x << 18) | (x >>> (64 - 18));
-			x = a[ 2] ^ t3; a[20] = (x << 62) | (x >>> (64 - 62));
-			x = a[12] ^ t3; a[ 2] = (x << 43) | (x >>> (64 - 43));
-			x = a[13] ^ t4; a[12] = (x << 25) | (x >>> (64 - 25));
-
-			x = a[19] ^ t0; a[13] = (x <<  8) | (x >>> (64 -  8));
-			x = a[23] ^ t4; a[19] = (x << 56) | (x >>> (64 - 56));
-			x = a[15] ^ t1; a[23] = (x << 41) | (x >>> (64 - 41));
-			x = a[ 4] ^ t0; a[15] = (x << 27) | (x >>> (64 - 27));
-			x = a[24] ^ t0; a[ 4] = (x << 14) | (x >>> (64 - 14));
-
-			x = a[21] ^ t2; a[24] = (x <<  2) | (x >>> (64 -  2));
-			x = a[ 8] ^ t4; a[21] = (x << 55) | (x >>> (64 - 55));
-			x = a[16] ^ t2; a[ 8] = (x << 45) | (x >>> (64 - 45));
-			x = a[ 5] ^ t1; a[16] = (x << 36) | (x >>> (64 - 36));
-			x = a[ 3] ^ t4; a[ 5] = (x << 28) | (x >>> (64 - 28));
-
-			x = a[18] ^ t4; a[ 3] = (x << 21) | (x >>> (64 - 21));
-			x = a[17] ^ t3; a[18] = (x << 15) | (x >>> (64 - 15));
-			x = a[11] ^ t2; a[17] = (x << 10) | (x >>> (64 - 10));
-			x = a[ 7] ^ t3; a[11] = (x <<  6) | (x >>> (64 -  6));
-			x = a[10] ^ t1; a[ 7] = (x <<  3) | (x >>> (64 -  3));
-			a[10] = a_10_;
-
-			//chi
-			c = 0;
-			do {
-				x0 = a[c + 0]; x1 = a[c + 1]; x2 = a[c + 2]; x3 = a[c + 3]; x4 = a[c + 4];
-				a[c + 0] = x0 ^ ((~x1) & x2);
-				a[c + 1] = x1 ^ ((~x2) & x3);
-				a[c + 2] = x2 ^ ((~x3) & x4);
-				a[c + 3] = x3 ^ ((~x4) & x0);
-				a[c + 4] = x4 ^ ((~x0) & x1);
+	private static final ThreadLocal<long[]> SCRATCH = new ThreadLocal<long[]>() {
+		@Override
+		protected long[] initialValue() {
+			return new long[MAX_STATE_SIZE_WORDS];
+		}
+	};
 
-				c += 5;
-			} while (c < 25);
+	public static void keccak224(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 28, 1152, 0x01);
+	}
 
-			//iota
-			a[0] ^= rc[i];
+	public static void keccak256(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 32, 1088, 0x01);
+	}
 
-			i++;
-		} while (i < 24);
-		//@formatter:on
+	public static void keccak384(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 48, 832, 0x01);
+	}
+
+	public static void keccak512(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 64, 576, 0x01);
+	}
+
+	//single-block Keccak-256 kernels: the input and both padding bits go into the state in one pass, then one permutation
+
+	private static final int KECCAK256_RATE_WORDS = 1088 / 64;
+	private static final long KECCAK256_LAST = 0x8000000000000000L; //the final padding bit, in lane KECCAK256_RATE_WORDS - 1
+
+	/**
+	 * Keccak-256 of the 32 bytes whose little-endian lanes are {@code a0 .. a3}, e.g. a storage slot; writes the 4
+	 * output lanes to {@code out}.
+	 */
+	public static void keccak256_32(long a0, long a1, long a2, long a3, long[] out) {
+		long[] state = SCRATCH.get();
+		state[0] = a0;
+		state[1] = a1;
+		state[2] = a2;
+		state[3] = a3;
+		state[4] = 0x01;
+		for (int i = 5; i < MAX_STATE_SIZE_WORDS; ++i)
+			state[i] = 0;
+		state[KECCAK256_RATE_WORDS - 1] = KECCAK256_LAST;
+		keccak(state, MAX_ROUNDS);
+		System.arraycopy(state, 0, out, 0, 4);
+		if (METRICS)
+			KeccakMetrics.of(1088, 0x01, MAX_ROUNDS).hashed(null, 32, 32, 1);
+	}
+
+	public static void keccak256_32(byte[] in, int offset, byte[] out, int outOffset) {
+		checkRange(in, offset, 32);
+		checkRange(out, outOffset, 32);
+		long[] state = SCRATCH.get();
+		for (int i = 0; i < 4; ++i, offset += 8)
+			state[i] = LittleEndian.getLong(in, offset);
+		state[4] = 0x01;
+		for (int i = 5; i < MAX_STATE_SIZE_WORDS; ++i)
+			state[i] = 0;
+		state[KECCAK256_RATE_WORDS - 1] = KECCAK256_LAST;
+		keccak(state, MAX_ROUNDS);
+		squeeze256(state, out, outOffset);
+		if (METRICS)
+			KeccakMetrics.of(1088, 0x01, MAX_ROUNDS).hashed(null, 32, 32, 1);
+	}
+
+	/**
+	 * Keccak-256 of 64 bytes, e.g. an uncompressed public key without its 0x04 prefix.
+	 */
+	public static void keccak256_64(byte[] in, int offset, byte[] out, int outOffset) {
+		checkRange(in, offset, 64);
+		checkRange(out, outOffset, 32);
+		hash256_64(SCRATCH.get(), in, offset, out, outOffset, 0x01);
+	}
+
+	/**
+	 * The 64-byte kernel over a caller-owned state, for Keccak-256 ({@code suffix} 0x01) or SHA3-256 (0x06).
+	 */
+	static void hash256_64(long[] state, byte[] in, int offset, byte[] out, int outOffset, int suffix) {
+		for (int i = 0; i < 8; ++i, offset += 8)
+			state[i] = LittleEndian.getLong(in, offset);
+		state[8] = suffix;
+		for (int i = 9; i < MAX_STATE_SIZE_WORDS; ++i)
+			state[i] = 0;
+		state[KECCAK256_RATE_WORDS - 1] = KECCAK256_LAST;
+		keccak(state, MAX_ROUNDS);
+		squeeze256(state, out, outOffset);
+		if (METRICS)
+			KeccakMetrics.of(1088, suffix, MAX_ROUNDS).hashed(null, 64, 32, 1);
+	}
+
+	/**
+	 * Keccak-256 of up to 135 bytes, i.e. anything that pads into a single block.
+	 */
+	public static void keccak256Block(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		checkRange(in, offset, length);
+		checkRange(out, outOffset, 32);
+		if (length >= KECCAK256_RATE_WORDS << 3)
+			throw new IllegalArgumentException("Invalid length: " + length + " ⊄ [ 0, " + ((KECCAK256_RATE_WORDS << 3) - 1) + " ]");
+		long[] state = SCRATCH.get();
+		int words = length >>> 3;
+		for (int i = 0; i < words; ++i, offset += 8)
+			state[i] = LittleEndian.getLong(in, offset);
+		long w = 0x01L << ((length & 0x7) << 3);
+		for (int b = (length & 0x7) - 1; b >= 0; --b)
+			w |= (in[offset + b] & 0xffL) << (b << 3);
+		state[words] = w;
+		for (int i = words + 1; i < MAX_STATE_SIZE_WORDS; ++i)
+			state[i] = 0;
+		state[KECCAK256_RATE_WORDS - 1] ^= KECCAK256_LAST;
+		keccak(state, MAX_ROUNDS);
+		squeeze256(state, out, outOffset);
+		if (METRICS)
+			KeccakMetrics.of(1088, 0x01, MAX_ROUNDS).hashed(null, length, 32, 1);
+	}
+
+	private static void squeeze256(long[] state, byte[] out, int outOffset) {
+		LittleEndian.putLong(out, outOffset, state[0]);
+		LittleEndian.putLong(out, outOffset + 8, state[1]);
+		LittleEndian.putLong(out, outOffset + 16, state[2]);
+		LittleEndian.putLong(out, outOffset + 24, state[3]);
+	}
+
+	/**
+	 * One-shot sponge over a per-thread scratch state; allocates nothing once the thread has hashed before.
+	 *
+	 * @param suffix  the domain separation bits followed by the first padding bit, e.g. 0x06 for SHA-3
+	 */
+	static void hash(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength, int rateSizeBits, int suffix) {
+		hash(in, offset, length, out, outOffset, outLength, rateSizeBits, suffix, MAX_ROUNDS);
+	}
+
+	static void hash(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength, int rateSizeBits, int suffix, int rounds) {
+		checkRange(in, offset, length);
+		checkRange(out, outOffset, outLength);
+		KeccakMetrics metrics = METRICS ? KeccakMetrics.of(rateSizeBits, suffix, rounds) : null;
+		KeccakFlight event = METRICS ? metrics.begin(length) : null;
+		int inBytes = length, outBytes = outLength;
+
+		long[] state = SCRATCH.get();
+		for (int i = 0; i < MAX_STATE_SIZE_WORDS; ++i)
+			state[i] = 0;
+
+		int rateSize = rateSizeBits >>> 3;
+		int rateSizeWords = rateSizeBits >>> 6;
+		for (; length >= rateSize; length -= rateSize) {
+			for (int i = 0; i < rateSizeWords; ++i, offset += 8)
+				state[i] ^= LittleEndian.getLong(in, offset);
+			keccak(state, rounds);
+		}
+
+		int i = 0;
+		for (; length >= 8; length -= 8, offset += 8)
+			state[i++] ^= LittleEndian.getLong(in, offset);
+		long w = 0;
+		int b = 0;
+		for (; b < length; ++b)
+			w |= (long) (in[offset + b] & 0xff) << (b << 3);
+		state[i] ^= w ^ ((long) suffix << (b << 3));
+		state[rateSizeWords - 1] ^= 0x8000000000000000L;
+		keccak(state, rounds);
+
+		for (;;) {
+			int c = outLength < rateSize ? outLength : rateSize;
+			outLength -= c;
+			for (i = 0; c >= 8; c -= 8, outOffset += 8)
+				LittleEndian.putLong(out, outOffset, state[i++]);
+			for (w = state[i]; c > 0; --c, w >>>= 8)
+				out[outOffset++] = (byte) w;
+			if (outLength <= 0)
+				break;
+			keccak(state, rounds);
+		}
+
+		if (METRICS)
+			metrics.hashed(event, inBytes, outBytes, inBytes / rateSize + 1 + (outBytes > 0 ? (outBytes - 1) / rateSize : 0));
+	}
+
+	private static void checkRange(byte[] b, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > b.length - length)
+			throw new IndexOutOfBoundsException("Invalid range: " + offset + " + " + length + " > " + b.length);
+	}
+
+	static void keccak(long[] a, int rounds) {
+		PERMUTATION.permute(a, rounds);
 	}
 
-	private static final long[] RC = { 0x0000000000000001L, 0x0000000000008082L, 0x800000000000808AL, 0x8000000080008000L, 0x000000000000808BL,
-	                                   0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L, 0x000000000000008AL, 0x0000000000000088L,
-	                                   0x0000000080008009L, 0x000000008000000AL, 0x000000008000808BL, 0x800000000000008BL, 0x8000000000008089L,
-	                                   0x8000000000008003L, 0x8000000000008002L, 0x8000000000000080L, 0x000000000000800AL, 0x800000008000000AL,
-	                                   0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L };
+	private static void keccak(long[][] lanes, int count, int rounds, long[] scratch) {
+		int l = 0;
+		if (VECTOR_LANES > 0) {
+			//a vector permutation costs about as much as VECTOR_LANES / 4 scalar ones
+			for (; count - l > VECTOR_LANES >>> 2; l += VECTOR_LANES)
+				KeccakVector.keccak(lanes, l, Math.min(VECTOR_LANES, count - l), rounds, scratch);
+		}
+		//interleaving the scalar permutation of 2 or 4 states only adds register spills on C2 - it's slower per state
+		for (; l < count; ++l)
+			keccak(lanes[l], rounds);
+	}
+
+	public static final class Snapshot {
+		private final long[] state = new long[MAX_STATE_SIZE_WORDS];
+		private Class<?> type;
+		private Object tag;
+		private int rounds, rateSizeBits, digestSizeBits, rateBits;
+		private boolean padded;
+
+		public Snapshot() {
+		}
+
+		@Override
+		public String toString() {
+			return type == null ? "Snapshot" : "Snapshot(" + type.getSimpleName() + ", " + rounds + " rounds, " + digestSizeBits + ")";
+		}
+	}
 }
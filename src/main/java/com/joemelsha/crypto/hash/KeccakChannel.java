@@ -0,0 +1,83 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakChannel implements WritableByteChannel {
+	private final Keccak hash;
+	private final WritableByteChannel out;
+	private boolean open = true;
+
+	public KeccakChannel(Keccak hash) {
+		this(hash, null);
+	}
+
+	/**
+	 * Absorbs every buffer written into {@code hash} in place, heap or direct, after passing it on to {@code out} if
+	 * that is not {@code null} - only the bytes {@code out} accepted are hashed. Closing closes {@code out} but leaves
+	 * {@code hash} as it is, ready to digest.
+	 */
+	public KeccakChannel(Keccak hash, WritableByteChannel out) {
+		this.hash = hash;
+		this.out = out;
+	}
+
+	public Keccak hash() {
+		return hash;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if (!open)
+			throw new ClosedChannelException();
+		if (out == null) {
+			int n = src.remaining();
+			hash.update(src);
+			return n;
+		}
+
+		int position = src.position();
+		int n = out.write(src);
+		if (n > 0) {
+			//rewind over what was written, absorb it and put the limit back
+			int limit = src.limit();
+			src.limit(src.position()).position(position);
+			hash.update(src);
+			src.limit(limit);
+		}
+		return n;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() throws IOException {
+		open = false;
+		if (out != null)
+			out.close();
+	}
+}
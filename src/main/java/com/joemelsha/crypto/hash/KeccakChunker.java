@@ -0,0 +1,235 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakChunker {
+	public static final int DEFAULT_MIN_SIZE = 2 << 10;
+	public static final int DEFAULT_AVG_SIZE = 8 << 10;
+	public static final int DEFAULT_MAX_SIZE = 64 << 10;
+	private static final int IN_FLIGHT = 128;
+	private static final int SEGMENT_SIZE = 8 << 20;
+
+	//the gear table: 256 pseudo-random words, fixed forever since every cut point depends on them
+	private static final long[] GEAR = new long[256];
+	static {
+		byte[] gear = new byte[GEAR.length << 3];
+		byte[] seed = "com.joemelsha.crypto.hash.KeccakChunker".getBytes(StandardCharsets.US_ASCII);
+		SHAKE.shake128(seed, 0, seed.length, gear, 0, gear.length);
+		for (int i = 0; i < GEAR.length; ++i)
+			GEAR[i] = LittleEndian.getLong(gear, i << 3);
+	}
+
+	private final int minSize, avgSize, maxSize;
+	private final long maskS, maskL;
+	private final KeccakPool<Keccak> hashes;
+	private final int digestSize;
+	private final Executor executor;
+
+	/**
+	 * A FastCDC chunker: cut points come from a gear rolling hash, judged against a stricter mask before
+	 * {@code avgSize} and a looser one after it, so chunk sizes cluster around {@code avgSize} within
+	 * [ {@code minSize}, {@code maxSize} ]. Each chunk is fingerprinted with a {@code digestSize} byte digest from an
+	 * instance of {@code hash} on {@code executor}, or on the calling thread if it is {@code null}, while the
+	 * calling thread goes on to find the next cut points.
+	 */
+	public KeccakChunker(int minSize, int avgSize, int maxSize, Supplier<? extends Keccak> hash, int digestSize, Executor executor) {
+		if (minSize < 64 || minSize >= avgSize)
+			throw new IllegalArgumentException("Invalid minSize: " + minSize + " ⊄ [ 64, " + avgSize + " )");
+		if (Integer.bitCount(avgSize) != 1 || avgSize >= maxSize)
+			throw new IllegalArgumentException("Invalid avgSize: " + avgSize);
+		if (maxSize > SEGMENT_SIZE >>> 2)
+			throw new IllegalArgumentException("Invalid maxSize: " + maxSize + " > " + (SEGMENT_SIZE >>> 2));
+		if (digestSize <= 0)
+			throw new IllegalArgumentException("Invalid digestSize: " + digestSize);
+		this.minSize = minSize;
+		this.avgSize = avgSize;
+		this.maxSize = maxSize;
+		//gear hashes shift left, so the top bits have seen the most bytes
+		int bits = Integer.numberOfTrailingZeros(avgSize);
+		maskS = -1L << (64 - bits - 2);
+		maskL = -1L << (64 - bits + 2);
+		hashes = new KeccakPool<>(IN_FLIGHT, hash);
+		this.digestSize = digestSize;
+		this.executor = executor;
+	}
+
+	public static KeccakChunker sha3_256(Executor executor) {
+		return new KeccakChunker(DEFAULT_MIN_SIZE, DEFAULT_AVG_SIZE, DEFAULT_MAX_SIZE, () -> new SHA3(256), 32, executor);
+	}
+
+	public static KeccakChunker turboSHAKE128(Executor executor) {
+		return new KeccakChunker(DEFAULT_MIN_SIZE, DEFAULT_AVG_SIZE, DEFAULT_MAX_SIZE, () -> new TurboSHAKE(128), 32, executor);
+	}
+
+	/**
+	 * Chunks the remaining bytes of {@code in}, handing every chunk to {@code sink} in order on the calling thread, and
+	 * advances its position to its limit. Offsets count from the initial position.
+	 *
+	 * @return the number of bytes chunked
+	 */
+	public long chunk(ByteBuffer in, Consumer<? super Chunk> sink) {
+		Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+		int start = in.position();
+		int position = start, limit = in.limit();
+		while (position < limit) {
+			int length = cut(in, position, limit);
+			submit(in, position, length, position - start, pending, sink);
+			position += length;
+		}
+		drain(pending, 0, sink);
+		in.position(limit);
+		return limit - start;
+	}
+
+	/**
+	 * Like {@link #chunk(ByteBuffer, Consumer)}, reading {@code in} to its end through two buffers of its own, which
+	 * take turns once the chunks still reading the older one are done. {@code in} must be blocking.
+	 */
+	public long chunk(ReadableByteChannel in, Consumer<? super Chunk> sink) throws IOException {
+		if (in instanceof SelectableChannel && !((SelectableChannel) in).isBlocking())
+			throw new IllegalBlockingModeException(); //a read of 0 would spin
+		Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+		long offset = 0;
+		ByteBuffer segment = ByteBuffer.allocateDirect(SEGMENT_SIZE), spare = null;
+		int submitted = 0; //chunks cut from segment, the only ones that may be pending once spare is free
+		boolean eof = false;
+		while (!eof) {
+			while (!eof && segment.hasRemaining())
+				eof = in.read(segment) < 0;
+			int limit = segment.position();
+			int position = 0;
+			//hold back the tail unless it's the end: more data may move its cut point
+			while (limit - position > (eof ? 0 : maxSize)) {
+				int length = cut(segment, position, limit);
+				submit(segment, position, length, offset, pending, sink);
+				position += length;
+				offset += length;
+				submitted++;
+			}
+			if (!eof) {
+				//chunks still being hashed keep reading segment, so the tail moves to spare once nothing reads that
+				drain(pending, submitted, sink);
+				if (spare == null)
+					spare = ByteBuffer.allocateDirect(SEGMENT_SIZE);
+				spare.clear();
+				segment.limit(limit).position(position);
+				spare.put(segment);
+				ByteBuffer next = spare;
+				spare = segment;
+				segment = next;
+				submitted = 0;
+			}
+		}
+		drain(pending, 0, sink);
+		return offset;
+	}
+
+	/**
+	 * The length of the chunk starting at {@code position}, at most {@code limit - position}.
+	 */
+	int cut(ByteBuffer in, int position, int limit) {
+		int n = limit - position;
+		if (n <= minSize)
+			return n;
+		if (n > maxSize)
+			n = maxSize;
+		int normal = n < avgSize ? n : avgSize;
+
+		long[] gear = GEAR;
+		long h = 0;
+		int i = minSize;
+		for (; i < normal; ++i) {
+			h = (h << 1) + gear[in.get(position + i) & 0xff];
+			if ((h & maskS) == 0)
+				return i + 1;
+		}
+		for (; i < n; ++i) {
+			h = (h << 1) + gear[in.get(position + i) & 0xff];
+			if ((h & maskL) == 0)
+				return i + 1;
+		}
+		return n;
+	}
+
+	private void submit(ByteBuffer in, int position, int length, long offset, Deque<CompletableFuture<Chunk>> pending, Consumer<? super Chunk> sink) {
+		ByteBuffer data = in.duplicate();
+		data.limit(position + length).position(position);
+		Supplier<Chunk> task = () -> {
+			Keccak hash = hashes.borrow();
+			try {
+				hash.update(data);
+				byte[] digest = new byte[digestSize];
+				hash.digest(digest);
+				return new Chunk(offset, length, digest);
+			} finally {
+				hashes.release(hash);
+			}
+		};
+		if (executor == null) {
+			sink.accept(task.get());
+			return;
+		}
+		pending.addLast(CompletableFuture.supplyAsync(task, executor));
+		drain(pending, IN_FLIGHT, sink);
+	}
+
+	private static void drain(Deque<CompletableFuture<Chunk>> pending, int keep, Consumer<? super Chunk> sink) {
+		while (pending.size() > keep || (!pending.isEmpty() && pending.peekFirst().isDone()))
+			sink.accept(pending.removeFirst().join());
+	}
+
+	public static final class Chunk {
+		private final long offset;
+		private final int length;
+		private final byte[] digest;
+
+		Chunk(long offset, int length, byte[] digest) {
+			this.offset = offset;
+			this.length = length;
+			this.digest = digest;
+		}
+
+		public long offset() {
+			return offset;
+		}
+
+		public int length() {
+			return length;
+		}
+
+		public byte[] digest() {
+			return digest;
+		}
+
+		@Override
+		public String toString() {
+			return "Chunk(" + offset + ", " + length + ")";
+		}
+	}
+}
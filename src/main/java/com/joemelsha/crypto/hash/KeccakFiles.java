@@ -0,0 +1,105 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakFiles {
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+	private KeccakFiles() {
+	}
+
+	public static byte[] hash(Path file, Keccak hash) throws IOException {
+		return hash(file, hash, DEFAULT_WINDOW_SIZE, null);
+	}
+
+	public static byte[] hash(Path file, Keccak hash, int windowSize, Executor prefetch) throws IOException {
+		hash.reset();
+		update(file, hash, windowSize, prefetch);
+		return hash.digestArray();
+	}
+
+	/**
+	 * Absorbs the content of {@code file} into {@code hash}, mapping it {@code windowSize} bytes at a time so the
+	 * mapped buffers are fed to {@link Keccak#update(ByteBuffer)} without copying. When {@code prefetch} is given, the
+	 * next window is mapped and loaded into physical memory on it while the current one is being hashed.
+	 *
+	 * @return the number of bytes absorbed
+	 */
+	public static long update(Path file, Keccak hash, int windowSize, Executor prefetch) throws IOException {
+		if (windowSize <= 0)
+			throw new IllegalArgumentException("Invalid windowSize: " + windowSize);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			CompletableFuture<MappedByteBuffer> next = null;
+			try {
+				long position = 0;
+				while (position < size) {
+					MappedByteBuffer window;
+					if (next != null) {
+						window = join(next);
+						next = null;
+					} else {
+						window = map(channel, position, Math.min(windowSize, size - position));
+					}
+					position += window.capacity();
+					if (prefetch != null && position < size)
+						next = load(channel, position, Math.min(windowSize, size - position), prefetch);
+					hash.update(window);
+				}
+				return size;
+			} finally {
+				if (next != null) //don't close the channel under a pending map
+					next.handle((window, e) -> null).join();
+			}
+		}
+	}
+
+	private static MappedByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+		return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+	}
+
+	private static CompletableFuture<MappedByteBuffer> load(FileChannel channel, long position, long size, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return map(channel, position, size).load();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, executor);
+	}
+
+	private static MappedByteBuffer join(CompletableFuture<MappedByteBuffer> future) throws IOException {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException)
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+
+/**
+ * The output overloads of a construction over one or more sponges, all funnelled into {@link #digest(ByteBuffer)}.
+ *
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+abstract class KeccakFunction {
+	KeccakFunction() {
+	}
+
+	public abstract int digestSize();
+
+	public abstract void digest(ByteBuffer out);
+
+	public ByteBuffer digest() {
+		return digest(digestSize());
+	}
+
+	public ByteBuffer digest(int outSize) {
+		return digest(outSize, false);
+	}
+
+	public ByteBuffer digest(int outSize, boolean direct) {
+		ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(outSize) : ByteBuffer.allocate(outSize);
+		digest(buffer);
+		buffer.flip();
+		return buffer;
+	}
+
+	public byte[] digestArray() {
+		return digestArray(digestSize());
+	}
+
+	public byte[] digestArray(int outSize) {
+		byte[] array = new byte[outSize];
+		digest(array, 0, outSize);
+		return array;
+	}
+
+	public void digest(byte[] out) {
+		digest(out, 0, out.length);
+	}
+
+	public void digest(byte[] out, int offset, int length) {
+		digest(ByteBuffer.wrap(out, offset, length));
+	}
+}
@@ -0,0 +1,90 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+
+import com.joemelsha.crypto.hash.Keccak.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakInputStream extends FilterInputStream {
+	private final Keccak hash;
+	private Snapshot mark;
+	private byte[] skipBuffer;
+
+	/**
+	 * Absorbs every byte read from {@code in} into {@code hash}, straight from the caller's array. Skipped bytes are
+	 * read and absorbed too, and {@link #reset()} rewinds {@code hash} along with {@code in}.
+	 */
+	public KeccakInputStream(InputStream in, Keccak hash) {
+		super(in);
+		this.hash = hash;
+	}
+
+	public Keccak hash() {
+		return hash;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (b >= 0)
+			hash.update((byte) b);
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = in.read(b, off, len);
+		if (n > 0)
+			hash.update(b, off, n);
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0)
+			return 0;
+		if (skipBuffer == null)
+			skipBuffer = new byte[4096];
+		long skipped = 0;
+		while (skipped < n) {
+			int c = read(skipBuffer, 0, (int) Math.min(skipBuffer.length, n - skipped));
+			if (c < 0)
+				break;
+			skipped += c;
+		}
+		return skipped;
+	}
+
+	@Override
+	public void mark(int readlimit) {
+		in.mark(readlimit);
+		mark = mark == null ? hash.snapshot() : hash.snapshot(mark);
+	}
+
+	@Override
+	public void reset() throws IOException {
+		if (mark == null)
+			throw new IOException("Mark not set");
+		in.reset();
+		hash.restore(mark);
+	}
+}
@@ -0,0 +1,186 @@
+package com.joemelsha.crypto.hash;
+
+import java.lang.management.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.management.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakMetrics implements KeccakMetricsMBean {
+	/**
+	 * Read once: when false every hook in the hashing paths is dead code to the JIT.
+	 */
+	static final boolean ENABLED = Boolean.getBoolean("com.joemelsha.crypto.hash.metrics");
+	/**
+	 * Updates, digests and one-shot hashes at least this large are also recorded as JFR events.
+	 */
+	static final int EVENT_BYTES = 1 << 16;
+
+	private static final ConcurrentMap<Object, KeccakMetrics> ALL = new ConcurrentHashMap<>();
+
+	private final String algorithm;
+	private final LongAdder bytesAbsorbed = new LongAdder(), bytesSqueezed = new LongAdder(), permutations = new LongAdder();
+	private final LongAdder[] calls = { new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder() };
+
+	private KeccakMetrics(String algorithm) {
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * The counters of {@code algorithm}, registered as the MBean
+	 * {@code com.joemelsha.crypto.hash:type=KeccakMetrics,algorithm=<algorithm>} when first used.
+	 */
+	public static KeccakMetrics of(String algorithm) {
+		KeccakMetrics metrics = ALL.get(algorithm);
+		return metrics != null ? metrics : register(algorithm, algorithm);
+	}
+
+	static KeccakMetrics of(int rateSizeBits, int suffix, int rounds) {
+		//one-shot paths: keyed without building the name every call
+		Integer key = (rateSizeBits >>> 6) | suffix << 8 | rounds << 16;
+		KeccakMetrics metrics = ALL.get(key);
+		if (metrics != null)
+			return metrics;
+		int bits = (1600 - rateSizeBits) >>> 1;
+		String algorithm = rounds != 24 ? "TurboSHAKE" + bits : suffix == 0x01 ? "Keccak-" + bits : suffix == 0x06 ? "SHA3-" + bits : "SHAKE" + bits;
+		return register(key, algorithm);
+	}
+
+	private static KeccakMetrics register(Object key, String algorithm) {
+		KeccakMetrics metrics = ALL.get(algorithm);
+		if (metrics == null) {
+			metrics = new KeccakMetrics(algorithm);
+			KeccakMetrics other = ALL.putIfAbsent(algorithm, metrics);
+			if (other != null) {
+				metrics = other;
+			} else {
+				try {
+					ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName("com.joemelsha.crypto.hash:type=KeccakMetrics,algorithm=" + algorithm));
+				} catch (JMException | SecurityException e) {
+					//still counted, just not visible through JMX (e.g. another copy of this library got there first)
+				}
+			}
+		}
+		ALL.putIfAbsent(key, metrics);
+		return metrics;
+	}
+
+	KeccakFlight begin(long bytes) {
+		return bytes >= EVENT_BYTES ? KeccakFlight.start() : null;
+	}
+
+	void absorbed(KeccakFlight event, long bytes) {
+		bytesAbsorbed.add(bytes);
+		call(bytes);
+		if (event != null)
+			KeccakFlight.end(event, algorithm, "update", bytes);
+	}
+
+	void squeezed(KeccakFlight event, long bytes) {
+		bytesSqueezed.add(bytes);
+		call(bytes);
+		if (event != null)
+			KeccakFlight.end(event, algorithm, "digest", bytes);
+	}
+
+	void hashed(KeccakFlight event, long inBytes, long outBytes, long permutations) {
+		bytesAbsorbed.add(inBytes);
+		bytesSqueezed.add(outBytes);
+		this.permutations.add(permutations);
+		call(inBytes);
+		if (event != null)
+			KeccakFlight.end(event, algorithm, "hash", inBytes);
+	}
+
+	void permuted(long permutations) {
+		this.permutations.add(permutations);
+	}
+
+	private void call(long bytes) {
+		//@formatter:off
+		calls[bytes <= 64 ? 0 :
+		      bytes <= 1 << 10 ? 1 :
+		      bytes <= 1 << 16 ? 2 :
+		      bytes <= 1 << 20 ? 3 : 4].increment();
+		//@formatter:on
+	}
+
+	@Override
+	public String toString() {
+		return "KeccakMetrics(" + algorithm + ")";
+	}
+
+	@Override
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public long getBytesAbsorbed() {
+		return bytesAbsorbed.sum();
+	}
+
+	@Override
+	public long getBytesSqueezed() {
+		return bytesSqueezed.sum();
+	}
+
+	@Override
+	public long getPermutations() {
+		return permutations.sum();
+	}
+
+	@Override
+	public long getCalls64B() {
+		return calls[0].sum();
+	}
+
+	@Override
+	public long getCalls1KiB() {
+		return calls[1].sum();
+	}
+
+	@Override
+	public long getCalls64KiB() {
+		return calls[2].sum();
+	}
+
+	@Override
+	public long getCalls1MiB() {
+		return calls[3].sum();
+	}
+
+	@Override
+	public long getCallsLarger() {
+		return calls[4].sum();
+	}
+
+	@Override
+	public void reset() {
+		bytesAbsorbed.reset();
+		bytesSqueezed.reset();
+		permutations.reset();
+		for (LongAdder adder : calls)
+			adder.reset();
+	}
+}
@@ -0,0 +1,49 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public interface KeccakMetricsMBean {
+	String getAlgorithm();
+
+	long getBytesAbsorbed();
+
+	long getBytesSqueezed();
+
+	long getPermutations();
+
+	/**
+	 * Updates, digests and one-shot hashes of up to 64 bytes.
+	 */
+	long getCalls64B();
+
+	long getCalls1KiB();
+
+	long getCalls64KiB();
+
+	long getCalls1MiB();
+
+	/**
+	 * Updates, digests and one-shot hashes of over 1 MiB.
+	 */
+	long getCallsLarger();
+
+	void reset();
+}
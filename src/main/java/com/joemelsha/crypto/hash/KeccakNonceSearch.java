@@ -0,0 +1,217 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakNonceSearch {
+	private static final int STATE_WORDS = 25;
+	private static final int BATCH = 4096;
+
+	private final String algorithm;
+	private final int rounds;
+	private final long[] template = new long[STATE_WORDS];
+	private final int lane, shift;
+	private final boolean split;
+	private final int[] padIndex;
+	private final long[] padValue;
+	private final long[] target, mask;
+
+	/**
+	 * Searches for a nonce that, appended to what {@code hash} has absorbed so far as 8 little-endian bytes, gives an
+	 * output below {@code target}, both read as big-endian numbers over the first {@code target.length} output bytes.
+	 * The absorbed header is reduced to its midstate once; every attempt then only XORs the nonce lanes into a copy of
+	 * it and permutes, without padding or squeezing through {@code hash}, which is left as it was.
+	 */
+	private KeccakNonceSearch(Keccak hash, byte[] target) {
+		if (target.length <= 0 || target.length > hash.rateSize())
+			throw new IllegalArgumentException("Invalid target length: " + target.length + " ⊄ [ 1, " + hash.rateSize() + " ]");
+		algorithm = hash.toString();
+		rounds = hash.rounds;
+
+		int rate = hash.rateSize();
+		int offset = hash.midstate(template);
+		lane = offset >>> 3;
+		shift = (offset & 0x7) << 3;
+		split = offset + 8 >= rate;
+		long[] padding = hash.padding(split ? offset + 8 - rate : offset + 8);
+		if (!split) {
+			for (int i = 0; i < STATE_WORDS; ++i)
+				template[i] ^= padding[i];
+			padding = new long[STATE_WORDS];
+		}
+		int n = 0;
+		for (long word : padding)
+			if (word != 0)
+				++n;
+		padIndex = new int[n];
+		padValue = new long[n];
+		for (int i = 0, j = 0; i < STATE_WORDS; ++i)
+			if (padding[i] != 0) {
+				padIndex[j] = i;
+				padValue[j++] = padding[i];
+			}
+
+		int words = (target.length + 7) >>> 3;
+		this.target = new long[words];
+		mask = new long[words];
+		for (int i = 0; i < target.length; ++i) {
+			this.target[i >>> 3] |= (target[i] & 0xffL) << (56 - ((i & 0x7) << 3));
+			mask[i >>> 3] |= 0xffL << (56 - ((i & 0x7) << 3));
+		}
+
+		verify(hash);
+	}
+
+	public static KeccakNonceSearch lessThan(Keccak hash, byte[] target) {
+		return new KeccakNonceSearch(hash, target.clone());
+	}
+
+	/**
+	 * Searches for an output starting with at least {@code bits} zero bits.
+	 */
+	public static KeccakNonceSearch leadingZeroBits(Keccak hash, int bits) {
+		int max = hash.rateSize() << 3;
+		if (bits <= 0 || bits > max)
+			throw new IllegalArgumentException("Invalid bits: " + bits + " ⊄ [ 1, " + max + " ]");
+		byte[] target = new byte[(bits + 7) >>> 3];
+		target[(bits - 1) >>> 3] = (byte) (0x80 >>> ((bits - 1) & 0x7));
+		return new KeccakNonceSearch(hash, target);
+	}
+
+	@Override
+	public String toString() {
+		return "KeccakNonceSearch[" + algorithm + "]";
+	}
+
+	public boolean matches(long nonce) {
+		return matches(nonce, new long[STATE_WORDS]);
+	}
+
+	/**
+	 * The first matching nonce in {@code [ start, start + count )}, tried in order on the calling thread.
+	 */
+	public OptionalLong search(long start, long count) {
+		checkCount(count);
+		long[] a = new long[STATE_WORDS];
+		for (long i = 0; i < count; ++i)
+			if (matches(start + i, a))
+				return OptionalLong.of(start + i);
+		return OptionalLong.empty();
+	}
+
+	public OptionalLong search(long start, long count, Executor executor, int workers) {
+		return searchAsync(start, count, executor, workers).join();
+	}
+
+	/**
+	 * Some matching nonce in {@code [ start, start + count )}, tried by {@code workers} tasks on {@code executor} that
+	 * claim batches of nonces in order and all stop at the first hit, so it need not be the lowest one. Cancelling or
+	 * completing the returned future stops the search as well; it completes empty once every nonce was tried.
+	 */
+	public CompletableFuture<OptionalLong> searchAsync(long start, long count, Executor executor, int workers) {
+		checkCount(count);
+		if (workers <= 0)
+			throw new IllegalArgumentException("Invalid workers: " + workers);
+		CompletableFuture<OptionalLong> result = new CompletableFuture<>();
+		AtomicLong next = new AtomicLong();
+		AtomicInteger running = new AtomicInteger(workers);
+		Runnable worker = () -> {
+			try {
+				long[] a = new long[STATE_WORDS];
+				for (long i; !result.isDone() && (i = next.getAndAdd(BATCH)) < count && i >= 0;) {
+					long end = count - i > BATCH ? i + BATCH : count;
+					for (; i < end; ++i)
+						if (matches(start + i, a)) {
+							result.complete(OptionalLong.of(start + i));
+							return;
+						}
+				}
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			} finally {
+				if (running.decrementAndGet() == 0)
+					result.complete(OptionalLong.empty());
+			}
+		};
+		for (int i = 0; i < workers; ++i) {
+			try {
+				executor.execute(worker);
+			} catch (RejectedExecutionException e) {
+				result.completeExceptionally(e);
+				if (running.addAndGet(i - workers) == 0)
+					result.complete(OptionalLong.empty());
+				break;
+			}
+		}
+		return result;
+	}
+
+	private boolean matches(long nonce, long[] a) {
+		System.arraycopy(template, 0, a, 0, STATE_WORDS);
+		a[lane] ^= nonce << shift;
+		if (split) {
+			Keccak.keccak(a, rounds);
+			for (int i = 0; i < padIndex.length; ++i)
+				a[padIndex[i]] ^= padValue[i];
+			if (shift > 0)
+				a[0] ^= nonce >>> -shift;
+		} else if (shift > 0) {
+			a[lane + 1] ^= nonce >>> -shift;
+		}
+		Keccak.keccak(a, rounds);
+
+		long[] target = this.target, mask = this.mask;
+		for (int i = 0; i < target.length; ++i) {
+			long d = Long.reverseBytes(a[i]) & mask[i];
+			if (d != target[i])
+				return Long.compareUnsigned(d, target[i]) < 0;
+		}
+		return false;
+	}
+
+	private void verify(Keccak hash) {
+		//a subclass may pad or squeeze its own way, so check the shortcut against the real thing
+		long nonce = 0x0123456789abcdefL;
+		byte[] in = new byte[8], expected = new byte[hash.rateSize()];
+		for (int i = 0; i < 8; ++i)
+			in[i] = (byte) (nonce >>> (i << 3));
+		Keccak.Snapshot snapshot = hash.snapshot();
+		try {
+			hash.update(in);
+			hash.digest(expected);
+		} finally {
+			hash.restore(snapshot);
+		}
+		long[] a = new long[STATE_WORDS];
+		matches(nonce, a);
+		for (int i = 0; i < expected.length; ++i)
+			if (expected[i] != (byte) (a[i >>> 3] >>> ((i & 0x7) << 3)))
+				throw new IllegalArgumentException("Invalid hash: " + hash + " ⊄ nonce search");
+	}
+
+	private static void checkCount(long count) {
+		if (count < 0)
+			throw new IllegalArgumentException("Invalid count: " + count);
+	}
+}
@@ -0,0 +1,71 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakOutputStream extends OutputStream {
+	private final Keccak hash;
+	private final OutputStream out;
+
+	public KeccakOutputStream(Keccak hash) {
+		this(hash, null);
+	}
+
+	/**
+	 * Absorbs every write into {@code hash}, straight from the caller's array, after passing it on to {@code out} if
+	 * that is not {@code null}. Closing closes {@code out} but leaves {@code hash} as it is, ready to digest.
+	 */
+	public KeccakOutputStream(Keccak hash, OutputStream out) {
+		this.hash = hash;
+		this.out = out;
+	}
+
+	public Keccak hash() {
+		return hash;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (out != null)
+			out.write(b);
+		hash.update((byte) b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (out != null)
+			out.write(b, off, len);
+		hash.update(b, off, len);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (out != null)
+			out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (out != null)
+			out.close();
+	}
+}
@@ -0,0 +1,34 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public interface KeccakPermutation {
+	/**
+	 * The name {@code -Dcom.joemelsha.crypto.hash.permutation} selects this engine by; its class name works too.
+	 */
+	String name();
+
+	/**
+	 * Applies Keccak-p[1600, rounds], i.e. the last {@code rounds} of Keccak-f[1600]'s 24 rounds, to the 25 lanes of
+	 * {@code a} in place. Called concurrently from any thread.
+	 */
+	void permute(long[] a, int rounds);
+}
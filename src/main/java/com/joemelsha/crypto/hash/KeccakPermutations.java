@@ -0,0 +1,154 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class KeccakPermutations {
+	static final String PROPERTY = "com.joemelsha.crypto.hash.permutation";
+	static final String DEFAULT = "unrolled", FASTEST = "fastest";
+	private static final long MEASURE_NANOS = 30_000_000L;
+	private static final int MEASURE_BATCH = 64;
+
+	//Keccak-f[1600] of the zero state
+	private static final long[] KAT_F = {
+		//@formatter:off
+		0xF1258F7940E1DDE7L, 0x84D5CCF933C0478AL, 0xD598261EA65AA9EEL, 0xBD1547306F80494DL, 0x8B284E056253D057L,
+		0xFF97A42D7F8E6FD4L, 0x90FEE5A0A44647C4L, 0x8C5BDA0CD6192E76L, 0xAD30A6F71B19059CL, 0x30935AB7D08FFC64L,
+		0xEB5AA93F2317D635L, 0xA9A6E6260D712103L, 0x81A57C16DBCF555FL, 0x43B831CD0347C826L, 0x01F22F1A11A5569FL,
+		0x05E5635A21D9AE61L, 0x64BEFEF28CC970F2L, 0x613670957BC46611L, 0xB87C5A554FD00ECBL, 0x8C3EE88A1CCF32C8L,
+		0x940C7922AE3A2614L, 0x1841F924A2C509E4L, 0x16F53526E70465C2L, 0x75F644E97F30A13BL, 0xEAF1FF7B5CECA249L
+		//@formatter:on
+	};
+	//the zero state run through Keccak-p[1600, 1], Keccak-p[1600, 2], .. Keccak-p[1600, 24] in turn
+	private static final long[] KAT_P = {
+		//@formatter:off
+		0x70EE6E8990C11921L, 0x55ED80CB70D65210L, 0x87371DA23237DEFEL, 0xECD09FB315525235L, 0x0C80BDD0C370F364L,
+		0x1A6AA8CF89F84C27L, 0x555ADBBF420EB970L, 0x5E8C715FA18C9827L, 0x8B7DCBA7E37BF878L, 0x00B7DE034A4453F8L,
+		0x2C60EB079167B67CL, 0x4B3977D281F45E30L, 0xECCEDF6EFBA0D14AL, 0x682451235BC80151L, 0xBDC8DA3E16C774F6L,
+		0xAEE54DA5FF881635L, 0xD603303ECB1770D1L, 0x722758D25F11FB96L, 0xADDD8C8941BDDF9BL, 0x4C68CC9DAC20F750L,
+		0xF5965CDC6C3182AFL, 0x066E9B594AAD35ECL, 0x67BD72FC364DFAA5L, 0x3085DD141B787874L, 0x777B46A93AC81A7EL
+		//@formatter:on
+	};
+
+	private KeccakPermutations() {
+	}
+
+	/**
+	 * The engine named by {@value #PROPERTY} if set, otherwise {@link KeccakUnrolled} if it passes its self-test, or
+	 * else the first that does. {@value #FASTEST} measures the engines that pass instead, keeping {@link KeccakRolled}
+	 * unless another is more than 10% faster; the pick then varies from run to run.
+	 */
+	static KeccakPermutation select() {
+		return select(System.getProperty(PROPERTY), discover());
+	}
+
+	static KeccakPermutation select(String property, List<KeccakPermutation> engines) {
+		if (property != null && !property.isEmpty() && !property.equals(FASTEST)) {
+			for (KeccakPermutation engine : engines) {
+				if (property.equals(engine.name()) || property.equals(engine.getClass().getName())) {
+					if (!selfTest(engine))
+						throw new IllegalStateException("Invalid " + PROPERTY + ": " + property + " failed its self-test");
+					return engine;
+				}
+			}
+			throw new IllegalArgumentException("Invalid " + PROPERTY + ": " + property + " ⊄ " + names(engines));
+		}
+
+		List<KeccakPermutation> passed = new ArrayList<>();
+		for (KeccakPermutation engine : engines)
+			if (selfTest(engine))
+				passed.add(engine);
+		if (passed.isEmpty())
+			throw new IllegalStateException("Invalid permutations: " + names(engines) + " all failed their self-test");
+		if (FASTEST.equals(property))
+			return passed.size() == 1 ? passed.get(0) : fastest(passed);
+		for (KeccakPermutation engine : passed)
+			if (DEFAULT.equals(engine.name()))
+				return engine;
+		return passed.get(0);
+	}
+
+	static List<KeccakPermutation> discover() {
+		List<KeccakPermutation> engines = new ArrayList<>();
+		engines.add(new KeccakRolled());
+		Iterator<KeccakPermutation> it = ServiceLoader.load(KeccakPermutation.class, KeccakPermutation.class.getClassLoader()).iterator();
+		for (;;) {
+			KeccakPermutation engine;
+			try {
+				if (!it.hasNext())
+					break;
+				engine = it.next();
+			} catch (ServiceConfigurationError e) {
+				//an engine that cannot be loaded is left out like one that fails its self-test
+				continue;
+			}
+			if (!names(engines).contains(engine.name()))
+				engines.add(engine);
+		}
+		return engines;
+	}
+
+	static boolean selfTest(KeccakPermutation engine) {
+		try {
+			long[] a = new long[25];
+			engine.permute(a, 24);
+			if (!Arrays.equals(a, KAT_F))
+				return false;
+			a = new long[25];
+			for (int rounds = 1; rounds <= 24; ++rounds)
+				engine.permute(a, rounds);
+			return Arrays.equals(a, KAT_P);
+		} catch (RuntimeException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static KeccakPermutation fastest(List<KeccakPermutation> engines) {
+		//interleaved so JIT warm-up and noise hit every engine alike; the best batch of each is kept
+		long[] a = new long[25];
+		long[] best = new long[engines.size()];
+		Arrays.fill(best, Long.MAX_VALUE);
+		long deadline = System.nanoTime() + MEASURE_NANOS;
+		do {
+			for (int e = 0; e < engines.size(); ++e) {
+				KeccakPermutation engine = engines.get(e);
+				long start = System.nanoTime();
+				for (int i = 0; i < MEASURE_BATCH; ++i)
+					engine.permute(a, 24);
+				best[e] = Math.min(best[e], System.nanoTime() - start);
+			}
+		} while (System.nanoTime() < deadline);
+
+		int fastest = 0;
+		for (int e = 1; e < engines.size(); ++e)
+			if (best[e] * 11 < best[fastest] * 10)
+				fastest = e;
+		return engines.get(fastest);
+	}
+
+	private static List<String> names(List<KeccakPermutation> engines) {
+		List<String> names = new ArrayList<>();
+		for (KeccakPermutation engine : engines)
+			names.add(engine.name());
+		return names;
+	}
+}
@@ -0,0 +1,87 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakPool<T extends Keccak> {
+	private final AtomicReferenceArray<T> slots;
+	private final Supplier<? extends T> factory;
+	private final int rateSizeBits, digestSizeBits; //what release puts back, whatever a borrower reset(int) to
+
+	/**
+	 * A lock-free pool keeping up to {@code capacity} idle instances made by {@code factory}. Nothing blocks or
+	 * synchronizes, so it is safe to share between virtual threads: {@link #borrow()} creates an instance when none is
+	 * idle and {@link #release(Keccak)} drops one when the pool is full.
+	 */
+	public KeccakPool(int capacity, Supplier<? extends T> factory) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		slots = new AtomicReferenceArray<>(capacity);
+		this.factory = factory;
+		T hash = factory.get();
+		rateSizeBits = hash.rateSizeBits;
+		digestSizeBits = hash.digestSizeBits;
+		slots.set(0, hash);
+	}
+
+	public static KeccakPool<SHA3> sha3(int digestSizeBits, int capacity) {
+		return new KeccakPool<>(capacity, () -> new SHA3(digestSizeBits));
+	}
+
+	public static KeccakPool<Keccak> keccak(int digestSizeBits, int capacity) {
+		return new KeccakPool<>(capacity, () -> new Keccak(digestSizeBits));
+	}
+
+	public int capacity() {
+		return slots.length();
+	}
+
+	/**
+	 * An instance in its initial state, idle or new.
+	 */
+	public T borrow() {
+		int n = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(n);
+		for (int i = start, j = 0; j < n; ++j, i = i + 1 == n ? 0 : i + 1) {
+			T hash = slots.get(i);
+			if (hash != null && slots.compareAndSet(i, hash, null))
+				return hash;
+		}
+		return factory.get();
+	}
+
+	/**
+	 * Resets {@code hash} to the pool's digest size and hands it back for the next {@link #borrow()}, so nothing this
+	 * borrower absorbed or {@link Keccak#reset(int) resized} is left in the pool. The caller must not touch it
+	 * afterwards.
+	 */
+	public void release(T hash) {
+		hash.reset(rateSizeBits, digestSizeBits);
+		int n = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(n);
+		for (int i = start, j = 0; j < n; ++j, i = i + 1 == n ? 0 : i + 1)
+			if (slots.get(i) == null && slots.compareAndSet(i, null, hash))
+				return;
+	}
+}
@@ -0,0 +1,183 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.security.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakProvider extends Provider {
+	private static final long serialVersionUID = 1L;
+
+	public static final String NAME = "Keccak";
+
+	public KeccakProvider() {
+		super(NAME, 1.1, "Keccak, SHA-3 and SHAKE message digests");
+
+		//@formatter:off
+		register("SHA3-224",     SHA3_224.class,    "2.16.840.1.101.3.4.2.7");
+		register("SHA3-256",     SHA3_256.class,    "2.16.840.1.101.3.4.2.8");
+		register("SHA3-384",     SHA3_384.class,    "2.16.840.1.101.3.4.2.9");
+		register("SHA3-512",     SHA3_512.class,    "2.16.840.1.101.3.4.2.10");
+		register("SHAKE128-256", SHAKE128_256.class, "2.16.840.1.101.3.4.2.11");
+		register("SHAKE256-512", SHAKE256_512.class, "2.16.840.1.101.3.4.2.12");
+		register("KECCAK-224",   Keccak224.class,   null);
+		register("KECCAK-256",   Keccak256.class,   null);
+		register("KECCAK-384",   Keccak384.class,   null);
+		register("KECCAK-512",   Keccak512.class,   null);
+		//@formatter:on
+	}
+
+	private void register(String algorithm, Class<? extends Digest> type, String oid) {
+		put("MessageDigest." + algorithm, type.getName());
+		put("MessageDigest." + algorithm + " ImplementedIn", "Software");
+		if (oid != null) {
+			put("Alg.Alias.MessageDigest." + oid, algorithm);
+			put("Alg.Alias.MessageDigest.OID." + oid, algorithm);
+		}
+	}
+
+	static abstract class Digest extends MessageDigestSpi implements Cloneable {
+		private Keccak hash;
+		private final int digestSize;
+
+		Digest(Keccak hash, int digestSize) {
+			this.hash = hash;
+			this.digestSize = digestSize;
+		}
+
+		@Override
+		protected int engineGetDigestLength() {
+			return digestSize;
+		}
+
+		@Override
+		protected void engineUpdate(byte input) {
+			hash.update(input);
+		}
+
+		@Override
+		protected void engineUpdate(byte[] input, int offset, int len) {
+			hash.update(input, offset, len);
+		}
+
+		@Override
+		protected void engineUpdate(ByteBuffer input) {
+			hash.update(input);
+		}
+
+		@Override
+		protected byte[] engineDigest() {
+			byte[] out = new byte[digestSize];
+			hash.digest(out, 0, digestSize);
+			hash.reset();
+			return out;
+		}
+
+		@Override
+		protected int engineDigest(byte[] buf, int offset, int len) throws DigestException {
+			if (len < digestSize)
+				throw new DigestException("Invalid len: " + len + " < " + digestSize);
+			hash.digest(buf, offset, digestSize);
+			hash.reset();
+			return digestSize;
+		}
+
+		@Override
+		protected void engineReset() {
+			hash.reset();
+		}
+
+		@Override
+		public Object clone() throws CloneNotSupportedException {
+			Digest clone = (Digest) super.clone();
+			clone.hash = copy(hash);
+			return clone;
+		}
+
+		private static Keccak copy(Keccak hash) {
+			if (hash instanceof SHA3)
+				return new SHA3((SHA3) hash);
+			if (hash instanceof SHAKE)
+				return new SHAKE((SHAKE) hash);
+			return new Keccak(hash);
+		}
+	}
+
+	public static final class SHA3_224 extends Digest {
+		public SHA3_224() {
+			super(new SHA3(224), 28);
+		}
+	}
+
+	public static final class SHA3_256 extends Digest {
+		public SHA3_256() {
+			super(new SHA3(256), 32);
+		}
+	}
+
+	public static final class SHA3_384 extends Digest {
+		public SHA3_384() {
+			super(new SHA3(384), 48);
+		}
+	}
+
+	public static final class SHA3_512 extends Digest {
+		public SHA3_512() {
+			super(new SHA3(512), 64);
+		}
+	}
+
+	public static final class SHAKE128_256 extends Digest {
+		public SHAKE128_256() {
+			super(new SHAKE(128), 32);
+		}
+	}
+
+	public static final class SHAKE256_512 extends Digest {
+		public SHAKE256_512() {
+			super(new SHAKE(256), 64);
+		}
+	}
+
+	public static final class Keccak224 extends Digest {
+		public Keccak224() {
+			super(new Keccak(224), 28);
+		}
+	}
+
+	public static final class Keccak256 extends Digest {
+		public Keccak256() {
+			super(new Keccak(256), 32);
+		}
+	}
+
+	public static final class Keccak384 extends Digest {
+		public Keccak384() {
+			super(new Keccak(384), 48);
+		}
+	}
+
+	public static final class Keccak512 extends Digest {
+		public Keccak512() {
+			super(new Keccak(512), 64);
+		}
+	}
+}
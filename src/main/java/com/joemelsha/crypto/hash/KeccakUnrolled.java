@@ -0,0 +1,280 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class KeccakUnrolled implements KeccakPermutation {
+	private static final int MAX_ROUNDS = 24;
+
+	public KeccakUnrolled() {
+	}
+
+	@Override
+	public String name() {
+		return "unrolled";
+	}
+
+	@Override
+	public void permute(long[] a, int rounds) {
+		keccak(a, rounds);
+	}
+
+	/**
+	 * Keccak-p[1600, rounds] with all 25 lanes held in locals for the whole permutation instead of being stored back
+	 * to the array every round, two rounds per iteration.
+	 */
+	static void keccak(long[] a, int rounds) {
+		//@formatter:off
+		//lanes 1, 2, 8, 12, 17 and 20 are kept complemented, which turns most of chi's NOTs into ORs
+		long a00 =  a[ 0], a01 = ~a[ 1], a02 = ~a[ 2], a03 =  a[ 3], a04 =  a[ 4];
+		long a05 =  a[ 5], a06 =  a[ 6], a07 =  a[ 7], a08 = ~a[ 8], a09 =  a[ 9];
+		long a10 =  a[10], a11 =  a[11], a12 = ~a[12], a13 =  a[13], a14 =  a[14];
+		long a15 =  a[15], a16 =  a[16], a17 = ~a[17], a18 =  a[18], a19 =  a[19];
+		long a20 = ~a[20], a21 =  a[21], a22 =  a[22], a23 =  a[23], a24 =  a[24];
+		long e00, e01, e02, e03, e04;
+		long e05, e06, e07, e08, e09;
+		long e10, e11, e12, e13, e14;
+		long e15, e16, e17, e18, e19;
+		long e20, e21, e22, e23, e24;
+		long b0, b1, b2, b3, b4;
+		long c0, c1, c2, c3, c4;
+		long d0, d1, d2, d3, d4;
+		long[] rc = KeccakRolled.RC;
+
+		int i = MAX_ROUNDS - rounds;
+		//an odd round first, then pairs of rounds going a -> e -> a
+		if ((rounds & 1) > 0) {
+			c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+			c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+			c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+			c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+			c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+			d0 = c4 ^ Long.rotateLeft(c1, 1);
+			d1 = c0 ^ Long.rotateLeft(c2, 1);
+			d2 = c1 ^ Long.rotateLeft(c3, 1);
+			d3 = c2 ^ Long.rotateLeft(c4, 1);
+			d4 = c3 ^ Long.rotateLeft(c0, 1);
+			b0 = a00 ^ d0;
+			b1 = Long.rotateLeft(a06 ^ d1, 44);
+			b2 = Long.rotateLeft(a12 ^ d2, 43);
+			b3 = Long.rotateLeft(a18 ^ d3, 21);
+			b4 = Long.rotateLeft(a24 ^ d4, 14);
+			e00 = b0 ^ (b1 | b2) ^ rc[i++];
+			e01 = b1 ^ (~b2 | b3);
+			e02 = b2 ^ (b3 & b4);
+			e03 = b3 ^ (b4 | b0);
+			e04 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a03 ^ d3, 28);
+			b1 = Long.rotateLeft(a09 ^ d4, 20);
+			b2 = Long.rotateLeft(a10 ^ d0, 3);
+			b3 = Long.rotateLeft(a16 ^ d1, 45);
+			b4 = Long.rotateLeft(a22 ^ d2, 61);
+			e05 = b0 ^ (b1 | b2);
+			e06 = b1 ^ (b2 & b3);
+			e07 = b2 ^ (b3 | ~b4);
+			e08 = b3 ^ (b4 | b0);
+			e09 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a01 ^ d1, 1);
+			b1 = Long.rotateLeft(a07 ^ d2, 6);
+			b2 = Long.rotateLeft(a13 ^ d3, 25);
+			b3 = Long.rotateLeft(a19 ^ d4, 8);
+			b4 = Long.rotateLeft(a20 ^ d0, 18);
+			e10 = b0 ^ (b1 | b2);
+			e11 = b1 ^ (b2 & b3);
+			e12 = b2 ^ (~b3 & b4);
+			e13 = ~b3 ^ (b4 | b0);
+			e14 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a04 ^ d4, 27);
+			b1 = Long.rotateLeft(a05 ^ d0, 36);
+			b2 = Long.rotateLeft(a11 ^ d1, 10);
+			b3 = Long.rotateLeft(a17 ^ d2, 15);
+			b4 = Long.rotateLeft(a23 ^ d3, 56);
+			e15 = b0 ^ (b1 & b2);
+			e16 = b1 ^ (b2 | b3);
+			e17 = b2 ^ (~b3 | b4);
+			e18 = ~b3 ^ (b4 & b0);
+			e19 = b4 ^ (b0 | b1);
+			b0 = Long.rotateLeft(a02 ^ d2, 62);
+			b1 = Long.rotateLeft(a08 ^ d3, 55);
+			b2 = Long.rotateLeft(a14 ^ d4, 39);
+			b3 = Long.rotateLeft(a15 ^ d0, 41);
+			b4 = Long.rotateLeft(a21 ^ d1, 2);
+			e20 = b0 ^ (~b1 & b2);
+			e21 = ~b1 ^ (b2 | b3);
+			e22 = b2 ^ (b3 & b4);
+			e23 = b3 ^ (b4 | b0);
+			e24 = b4 ^ (b0 & b1);
+			a00 = e00;
+			a01 = e01;
+			a02 = e02;
+			a03 = e03;
+			a04 = e04;
+			a05 = e05;
+			a06 = e06;
+			a07 = e07;
+			a08 = e08;
+			a09 = e09;
+			a10 = e10;
+			a11 = e11;
+			a12 = e12;
+			a13 = e13;
+			a14 = e14;
+			a15 = e15;
+			a16 = e16;
+			a17 = e17;
+			a18 = e18;
+			a19 = e19;
+			a20 = e20;
+			a21 = e21;
+			a22 = e22;
+			a23 = e23;
+			a24 = e24;
+		}
+		for (; i < MAX_ROUNDS; i += 2) {
+			c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+			c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+			c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+			c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+			c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+			d0 = c4 ^ Long.rotateLeft(c1, 1);
+			d1 = c0 ^ Long.rotateLeft(c2, 1);
+			d2 = c1 ^ Long.rotateLeft(c3, 1);
+			d3 = c2 ^ Long.rotateLeft(c4, 1);
+			d4 = c3 ^ Long.rotateLeft(c0, 1);
+			b0 = a00 ^ d0;
+			b1 = Long.rotateLeft(a06 ^ d1, 44);
+			b2 = Long.rotateLeft(a12 ^ d2, 43);
+			b3 = Long.rotateLeft(a18 ^ d3, 21);
+			b4 = Long.rotateLeft(a24 ^ d4, 14);
+			e00 = b0 ^ (b1 | b2) ^ rc[i];
+			e01 = b1 ^ (~b2 | b3);
+			e02 = b2 ^ (b3 & b4);
+			e03 = b3 ^ (b4 | b0);
+			e04 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a03 ^ d3, 28);
+			b1 = Long.rotateLeft(a09 ^ d4, 20);
+			b2 = Long.rotateLeft(a10 ^ d0, 3);
+			b3 = Long.rotateLeft(a16 ^ d1, 45);
+			b4 = Long.rotateLeft(a22 ^ d2, 61);
+			e05 = b0 ^ (b1 | b2);
+			e06 = b1 ^ (b2 & b3);
+			e07 = b2 ^ (b3 | ~b4);
+			e08 = b3 ^ (b4 | b0);
+			e09 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a01 ^ d1, 1);
+			b1 = Long.rotateLeft(a07 ^ d2, 6);
+			b2 = Long.rotateLeft(a13 ^ d3, 25);
+			b3 = Long.rotateLeft(a19 ^ d4, 8);
+			b4 = Long.rotateLeft(a20 ^ d0, 18);
+			e10 = b0 ^ (b1 | b2);
+			e11 = b1 ^ (b2 & b3);
+			e12 = b2 ^ (~b3 & b4);
+			e13 = ~b3 ^ (b4 | b0);
+			e14 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(a04 ^ d4, 27);
+			b1 = Long.rotateLeft(a05 ^ d0, 36);
+			b2 = Long.rotateLeft(a11 ^ d1, 10);
+			b3 = Long.rotateLeft(a17 ^ d2, 15);
+			b4 = Long.rotateLeft(a23 ^ d3, 56);
+			e15 = b0 ^ (b1 & b2);
+			e16 = b1 ^ (b2 | b3);
+			e17 = b2 ^ (~b3 | b4);
+			e18 = ~b3 ^ (b4 & b0);
+			e19 = b4 ^ (b0 | b1);
+			b0 = Long.rotateLeft(a02 ^ d2, 62);
+			b1 = Long.rotateLeft(a08 ^ d3, 55);
+			b2 = Long.rotateLeft(a14 ^ d4, 39);
+			b3 = Long.rotateLeft(a15 ^ d0, 41);
+			b4 = Long.rotateLeft(a21 ^ d1, 2);
+			e20 = b0 ^ (~b1 & b2);
+			e21 = ~b1 ^ (b2 | b3);
+			e22 = b2 ^ (b3 & b4);
+			e23 = b3 ^ (b4 | b0);
+			e24 = b4 ^ (b0 & b1);
+			c0 = e00 ^ e05 ^ e10 ^ e15 ^ e20;
+			c1 = e01 ^ e06 ^ e11 ^ e16 ^ e21;
+			c2 = e02 ^ e07 ^ e12 ^ e17 ^ e22;
+			c3 = e03 ^ e08 ^ e13 ^ e18 ^ e23;
+			c4 = e04 ^ e09 ^ e14 ^ e19 ^ e24;
+			d0 = c4 ^ Long.rotateLeft(c1, 1);
+			d1 = c0 ^ Long.rotateLeft(c2, 1);
+			d2 = c1 ^ Long.rotateLeft(c3, 1);
+			d3 = c2 ^ Long.rotateLeft(c4, 1);
+			d4 = c3 ^ Long.rotateLeft(c0, 1);
+			b0 = e00 ^ d0;
+			b1 = Long.rotateLeft(e06 ^ d1, 44);
+			b2 = Long.rotateLeft(e12 ^ d2, 43);
+			b3 = Long.rotateLeft(e18 ^ d3, 21);
+			b4 = Long.rotateLeft(e24 ^ d4, 14);
+			a00 = b0 ^ (b1 | b2) ^ rc[i + 1];
+			a01 = b1 ^ (~b2 | b3);
+			a02 = b2 ^ (b3 & b4);
+			a03 = b3 ^ (b4 | b0);
+			a04 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(e03 ^ d3, 28);
+			b1 = Long.rotateLeft(e09 ^ d4, 20);
+			b2 = Long.rotateLeft(e10 ^ d0, 3);
+			b3 = Long.rotateLeft(e16 ^ d1, 45);
+			b4 = Long.rotateLeft(e22 ^ d2, 61);
+			a05 = b0 ^ (b1 | b2);
+			a06 = b1 ^ (b2 & b3);
+			a07 = b2 ^ (b3 | ~b4);
+			a08 = b3 ^ (b4 | b0);
+			a09 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(e01 ^ d1, 1);
+			b1 = Long.rotateLeft(e07 ^ d2, 6);
+			b2 = Long.rotateLeft(e13 ^ d3, 25);
+			b3 = Long.rotateLeft(e19 ^ d4, 8);
+			b4 = Long.rotateLeft(e20 ^ d0, 18);
+			a10 = b0 ^ (b1 | b2);
+			a11 = b1 ^ (b2 & b3);
+			a12 = b2 ^ (~b3 & b4);
+			a13 = ~b3 ^ (b4 | b0);
+			a14 = b4 ^ (b0 & b1);
+			b0 = Long.rotateLeft(e04 ^ d4, 27);
+			b1 = Long.rotateLeft(e05 ^ d0, 36);
+			b2 = Long.rotateLeft(e11 ^ d1, 10);
+			b3 = Long.rotateLeft(e17 ^ d2, 15);
+			b4 = Long.rotateLeft(e23 ^ d3, 56);
+			a15 = b0 ^ (b1 & b2);
+			a16 = b1 ^ (b2 | b3);
+			a17 = b2 ^ (~b3 | b4);
+			a18 = ~b3 ^ (b4 & b0);
+			a19 = b4 ^ (b0 | b1);
+			b0 = Long.rotateLeft(e02 ^ d2, 62);
+			b1 = Long.rotateLeft(e08 ^ d3, 55);
+			b2 = Long.rotateLeft(e14 ^ d4, 39);
+			b3 = Long.rotateLeft(e15 ^ d0, 41);
+			b4 = Long.rotateLeft(e21 ^ d1, 2);
+			a20 = b0 ^ (~b1 & b2);
+			a21 = ~b1 ^ (b2 | b3);
+			a22 = b2 ^ (b3 & b4);
+			a23 = b3 ^ (b4 | b0);
+			a24 = b4 ^ (b0 & b1);
+		}
+
+		a[ 0] =  a00; a[ 1] = ~a01; a[ 2] = ~a02; a[ 3] =  a03; a[ 4] =  a04;
+		a[ 5] =  a05; a[ 6] =  a06; a[ 7] =  a07; a[ 8] = ~a08; a[ 9] =  a09;
+		a[10] =  a10; a[11] =  a11; a[12] = ~a12; a[13] =  a13; a[14] =  a14;
+		a[15] =  a15; a[16] =  a16; a[17] = ~a17; a[18] =  a18; a[19] =  a19;
+		a[20] = ~a20; a[21] =  a21; a[22] =  a22; a[23] =  a23; a[24] =  a24;
+		//@formatter:on
+	}
+}
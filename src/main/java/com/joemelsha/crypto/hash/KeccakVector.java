@@ -0,0 +1,35 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class KeccakVector {
+	//Java 8 has no Vector API - see src/main/java17 for the multi-release override
+	private KeccakVector() {
+	}
+
+	static int lanes() {
+		return 0;
+	}
+
+	static void keccak(long[][] states, int offset, int count, int rounds, long[] scratch) {
+		throw new UnsupportedOperationException("Vector API not available");
+	}
+}
@@ -0,0 +1,41 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class LittleEndian {
+	private LittleEndian() {
+	}
+
+	static long getLong(byte[] b, int i) {
+		return (b[i] & 0xffL) | (b[i + 1] & 0xffL) << 8 | (b[i + 2] & 0xffL) << 16 | (b[i + 3] & 0xffL) << 24 | (b[i + 4] & 0xffL) << 32 | (b[i + 5] & 0xffL) << 40 | (b[i + 6] & 0xffL) << 48 | (long) b[i + 7] << 56;
+	}
+
+	static void putLong(byte[] b, int i, long w) {
+		b[i] = (byte) w;
+		b[i + 1] = (byte) (w >>> 8);
+		b[i + 2] = (byte) (w >>> 16);
+		b[i + 3] = (byte) (w >>> 24);
+		b[i + 4] = (byte) (w >>> 32);
+		b[i + 5] = (byte) (w >>> 40);
+		b[i + 6] = (byte) (w >>> 48);
+		b[i + 7] = (byte) (w >>> 56);
+	}
+}
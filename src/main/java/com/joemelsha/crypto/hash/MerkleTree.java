@@ -0,0 +1,160 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public final class MerkleTree {
+	public static final int HASH_SIZE = 32;
+	private static final int FORK_PAIRS = 256;
+
+	public enum Algorithm {
+		KECCAK_256(0x01), SHA3_256(0x06);
+
+		private final int suffix;
+
+		private Algorithm(int suffix) {
+			this.suffix = suffix;
+		}
+	}
+
+	private final Algorithm algorithm;
+	private final byte[][] levels;
+
+	/**
+	 * Builds the tree over {@code leaves}, the concatenated {@value #HASH_SIZE} byte leaf hashes. Each parent is the
+	 * hash of its two children's concatenation; an odd node out is carried up to the next level unchanged. Every level
+	 * is stored as one flat array and hashed across {@code pool}, or on the calling thread if it is {@code null}.
+	 */
+	public MerkleTree(byte[] leaves, Algorithm algorithm, ForkJoinPool pool) {
+		if (leaves.length <= 0 || leaves.length % HASH_SIZE > 0)
+			throw new IllegalArgumentException("Invalid leaves.length: " + leaves.length);
+		this.algorithm = algorithm;
+
+		int depth = 1;
+		for (int count = leaves.length / HASH_SIZE; count > 1; count = (count + 1) >>> 1)
+			++depth;
+		levels = new byte[depth][];
+		levels[0] = leaves.clone();
+		for (int l = 1; l < depth; ++l) {
+			byte[] in = levels[l - 1];
+			int count = in.length / HASH_SIZE;
+			byte[] out = levels[l] = new byte[((count + 1) >>> 1) * HASH_SIZE];
+			int pairs = count >>> 1;
+			if (pool != null && pairs > FORK_PAIRS)
+				pool.invoke(new Level(in, out, 0, pairs, algorithm.suffix));
+			else
+				hashPairs(in, out, 0, pairs, algorithm.suffix);
+			if ((count & 1) > 0)
+				System.arraycopy(in, in.length - HASH_SIZE, out, out.length - HASH_SIZE, HASH_SIZE);
+		}
+	}
+
+	public Algorithm algorithm() {
+		return algorithm;
+	}
+
+	public int leafCount() {
+		return levels[0].length / HASH_SIZE;
+	}
+
+	public int depth() {
+		return levels.length;
+	}
+
+	public byte[] root() {
+		return levels[levels.length - 1].clone();
+	}
+
+	/**
+	 * The concatenated sibling hashes from leaf {@code index} up to the root, skipping levels where the node had no
+	 * sibling.
+	 */
+	public byte[] proof(int index) {
+		if (index < 0 || index >= leafCount())
+			throw new IndexOutOfBoundsException("Invalid index: " + index + " ⊄ [ 0, " + leafCount() + " )");
+		int size = 0;
+		for (int l = 0, i = index; l < levels.length - 1; ++l, i >>>= 1)
+			if ((i ^ 1) < levels[l].length / HASH_SIZE)
+				size += HASH_SIZE;
+		byte[] proof = new byte[size];
+		int p = 0;
+		for (int l = 0, i = index; l < levels.length - 1; ++l, i >>>= 1) {
+			if ((i ^ 1) < levels[l].length / HASH_SIZE) {
+				System.arraycopy(levels[l], (i ^ 1) * HASH_SIZE, proof, p, HASH_SIZE);
+				p += HASH_SIZE;
+			}
+		}
+		return proof;
+	}
+
+	public static boolean verify(byte[] leaf, int index, int leafCount, byte[] proof, byte[] root, Algorithm algorithm) {
+		if (leaf.length != HASH_SIZE || index < 0 || index >= leafCount)
+			return false;
+		long[] state = new long[25];
+		byte[] pair = new byte[HASH_SIZE << 1];
+		byte[] node = leaf.clone();
+		int p = 0;
+		for (int count = leafCount; count > 1; count = (count + 1) >>> 1, index >>>= 1) {
+			if ((index ^ 1) >= count)
+				continue;
+			if (p + HASH_SIZE > proof.length)
+				return false;
+			System.arraycopy(node, 0, pair, (index & 1) * HASH_SIZE, HASH_SIZE);
+			System.arraycopy(proof, p, pair, (~index & 1) * HASH_SIZE, HASH_SIZE);
+			Keccak.hash256_64(state, pair, 0, node, 0, algorithm.suffix);
+			p += HASH_SIZE;
+		}
+		return p == proof.length && Arrays.equals(node, root);
+	}
+
+	private static void hashPairs(byte[] in, byte[] out, int from, int to, int suffix) {
+		long[] state = new long[25];
+		for (int i = from; i < to; ++i)
+			Keccak.hash256_64(state, in, i * (HASH_SIZE << 1), out, i * HASH_SIZE, suffix);
+	}
+
+	private static final class Level extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] in, out;
+		private final int from, to, suffix;
+
+		Level(byte[] in, byte[] out, int from, int to, int suffix) {
+			this.in = in;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+			this.suffix = suffix;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= FORK_PAIRS) {
+				hashPairs(in, out, from, to, suffix);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Level(in, out, from, middle, suffix), new Level(in, out, middle, to, suffix));
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class ParallelHash extends KeccakFunction {
+	private static final byte[] FUNCTION_NAME = "ParallelHash".getBytes(Charset.forName("US-ASCII"));
+	private static final int BATCH_BLOCKS = 8; //blocks per task, hashed together by hashBatch
+	private static final int BUFFER_SIZE = 1 << 20; //at most this much input buffered for streaming updates, unless B is larger
+
+	private final int securityBits, blockSize, digestSizeBits;
+	private final Executor executor;
+	private final CSHAKE finalNode;
+	private final int batchBlocks; //blocks hashed per updateBlocks, BATCH_BLOCKS for each task
+	private byte[] buffer; //allocated on the first update that does not end on a block boundary
+	private final byte[] chainingValues;
+	private int bufferBytes;
+	private long blocks;
+	private boolean padded;
+
+	public ParallelHash(int securityBits, int blockSize, byte[] customization) {
+		this(securityBits, blockSize, customization, securityBits << 1, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param securityBits    128 or 256, i.e. ParallelHash128 or ParallelHash256
+	 * @param blockSize       B, the size of the independently hashed leaves in bytes
+	 * @param digestSizeBits  L, or 0 for ParallelHashXOF
+	 * @param executor        hashes the leaves in parallel; {@code null} hashes them on the calling thread
+	 */
+	public ParallelHash(int securityBits, int blockSize, byte[] customization, int digestSizeBits, Executor executor) {
+		if (blockSize <= 0)
+			throw new IllegalArgumentException("Invalid blockSize: " + blockSize);
+		if (digestSizeBits < 0 || (digestSizeBits & 0x7) > 0)
+			throw new IllegalArgumentException("Invalid digestSizeBits: " + digestSizeBits);
+		finalNode = new CSHAKE(securityBits, FUNCTION_NAME, customization);
+		this.securityBits = securityBits;
+		this.blockSize = blockSize;
+		this.digestSizeBits = digestSizeBits;
+		this.executor = executor;
+		int tasks = 1;
+		if (executor instanceof ForkJoinPool)
+			tasks = ((ForkJoinPool) executor).getParallelism();
+		else if (executor != null)
+			tasks = Runtime.getRuntime().availableProcessors();
+		batchBlocks = BATCH_BLOCKS * tasks;
+		chainingValues = new byte[batchBlocks * chainingValueSize()];
+		reset();
+	}
+
+	@Override
+	public String toString() {
+		return "ParallelHash" + securityBits;
+	}
+
+	@Override
+	public int digestSize() {
+		return digestSizeBits >>> 3;
+	}
+
+	private int chainingValueSize() {
+		return securityBits >>> 2;
+	}
+
+	public void reset() {
+		finalNode.reset();
+		finalNode.leftEncode(blockSize);
+		bufferBytes = 0;
+		blocks = 0;
+		padded = false;
+	}
+
+	public void update(byte in) {
+		update(new byte[] { in });
+	}
+
+	public void update(byte[] in) {
+		update(ByteBuffer.wrap(in));
+	}
+
+	public void update(byte[] in, int offset, int length) {
+		update(ByteBuffer.wrap(in, offset, length));
+	}
+
+	public void update(ByteBuffer in) {
+		if (padded)
+			throw new IllegalStateException("Cannot update while padded");
+
+		byte[] buffer = this.buffer;
+		int remaining;
+		while ((remaining = in.remaining()) > 0) {
+			if (bufferBytes <= 0 && remaining >= blockSize) {
+				//whole blocks straight from the input, no copy
+				updateBlocks(in, Math.min(remaining / blockSize, batchBlocks) * blockSize);
+				continue;
+			}
+			if (buffer == null) {
+				long size = Math.min((long) batchBlocks * blockSize, Math.max(BUFFER_SIZE / blockSize, 1) * (long) blockSize);
+				buffer = this.buffer = new byte[(int) size];
+			}
+			int c = Math.min(remaining, buffer.length - bufferBytes);
+			in.get(buffer, bufferBytes, c);
+			bufferBytes += c;
+			if (bufferBytes >= buffer.length) {
+				updateBlocks(ByteBuffer.wrap(buffer, 0, bufferBytes), bufferBytes);
+				bufferBytes = 0;
+			}
+		}
+	}
+
+	private void updateBlocks(ByteBuffer in, int length) {
+		int blockSize = this.blockSize;
+		int count = (length + blockSize - 1) / blockSize;
+		int chainingValueSize = chainingValueSize();
+		byte[] chainingValues = this.chainingValues;
+		int position = in.position();
+
+		int groups = (count + BATCH_BLOCKS - 1) / BATCH_BLOCKS;
+		CompletableFuture<?>[] futures = executor != null && groups > 1 ? new CompletableFuture<?>[groups] : null;
+		for (int g = 0; g < groups; ++g) {
+			int first = g * BATCH_BLOCKS;
+			int end = position + Math.min(length, (first + BATCH_BLOCKS) * blockSize);
+			Leaves leaves = new Leaves(in, position + first * blockSize, end, chainingValues, first * chainingValueSize);
+			if (futures != null)
+				futures[g] = CompletableFuture.runAsync(leaves, executor);
+			else
+				leaves.run();
+		}
+		if (futures != null)
+			CompletableFuture.allOf(futures).join();
+
+		finalNode.update(chainingValues, 0, count * chainingValueSize);
+		in.position(position + length);
+		blocks += count;
+	}
+
+	@Override
+	public void digest(ByteBuffer out) {
+		if (!padded) {
+			if (bufferBytes > 0) {
+				updateBlocks(ByteBuffer.wrap(buffer, 0, bufferBytes), bufferBytes);
+				bufferBytes = 0;
+			}
+			finalNode.rightEncode(blocks);
+			finalNode.rightEncode(digestSizeBits);
+			padded = true;
+		}
+		finalNode.digest(out);
+	}
+
+	private final class Leaves implements Runnable {
+		private final ByteBuffer in;
+		private final int position, end;
+		private final byte[] out;
+		private final int offset;
+
+		Leaves(ByteBuffer in, int position, int end, byte[] out, int offset) {
+			this.in = in;
+			this.position = position;
+			this.end = end;
+			this.out = out;
+			this.offset = offset;
+		}
+
+		@Override
+		public void run() {
+			//cSHAKE with empty N and S is plain SHAKE
+			int blockSize = ParallelHash.this.blockSize;
+			int chainingValueSize = chainingValueSize();
+			int count = (end - position + blockSize - 1) / blockSize;
+			ByteBuffer[] blocks = new ByteBuffer[count];
+			ByteBuffer[] chainingValues = new ByteBuffer[count];
+			for (int i = 0; i < count; ++i) {
+				int p = position + i * blockSize;
+				ByteBuffer block = in.duplicate();
+				block.limit(Math.min(p + blockSize, end));
+				block.position(p);
+				blocks[i] = block;
+				chainingValues[i] = ByteBuffer.wrap(out, offset + i * chainingValueSize, chainingValueSize);
+			}
+			new SHAKE(securityBits).hashBatch(blocks, chainingValues);
+		}
+	}
+}
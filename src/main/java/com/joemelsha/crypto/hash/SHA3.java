@@ -21,6 +21,13 @@ package com.joemelsha.crypto.hash;
  * limitations under the License.
  */
 public class SHA3 extends Keccak {
+	private static final ThreadLocal<SHA3[]> LOCAL = new ThreadLocal<SHA3[]>() {
+		@Override
+		protected SHA3[] initialValue() {
+			return new SHA3[4];
+		}
+	};
+
 	public SHA3(int digestSizeBits) {
 		super(digestSizeBits);
 	}
@@ -29,6 +36,46 @@ public class SHA3 extends Keccak {
 		super(other);
 	}
 
+	/**
+	 * This thread's own instance of the given size, reset. It is handed out again by the next call on the same thread,
+	 * so it must not be held across one. Every virtual thread gets an instance of its own; share a {@link KeccakPool}
+	 * between them instead.
+	 */
+	public static SHA3 threadLocal(int digestSizeBits) {
+		int i;
+		//@formatter:off
+		switch (digestSizeBits) {
+			case 224: i = 0; break;
+			case 256: i = 1; break;
+			case 384: i = 2; break;
+			case 512: i = 3; break;
+			default: return new SHA3(digestSizeBits); //throws
+		}
+		//@formatter:on
+		SHA3[] local = LOCAL.get();
+		SHA3 hash = local[i];
+		if (hash == null)
+			return local[i] = new SHA3(digestSizeBits);
+		hash.reset(digestSizeBits); //keyed by the size asked for, whatever the last caller reset(int) it to
+		return hash;
+	}
+
+	public static void sha3_224(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 28, 1152, 0x06);
+	}
+
+	public static void sha3_256(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 32, 1088, 0x06);
+	}
+
+	public static void sha3_384(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 48, 832, 0x06);
+	}
+
+	public static void sha3_512(byte[] in, int offset, int length, byte[] out, int outOffset) {
+		hash(in, offset, length, out, outOffset, 64, 576, 0x06);
+	}
+
 	@Override
 	public String toString() {
 		return "SHA3-" + digestSizeBits;
@@ -1,5 +1,9 @@
 package com.joemelsha.crypto.hash;
 
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
 /**
  * @author Joseph Robert Melsha (joe.melsha@live.com)
  *
@@ -29,6 +33,69 @@ public class SHAKE extends Keccak {
 		super(other);
 	}
 
+	public static void shake128(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength) {
+		hash(in, offset, length, out, outOffset, outLength, 1344, 0x1f);
+	}
+
+	public static void shake256(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength) {
+		hash(in, offset, length, out, outOffset, outLength, 1088, 0x1f);
+	}
+
+	/**
+	 * An endless view of this instance's output: every read squeezes straight into the given buffer, padding first if
+	 * that has not happened yet. Closing the channel leaves this instance untouched.
+	 */
+	public ReadableByteChannel outputChannel() {
+		return new ReadableByteChannel() {
+			private boolean open = true;
+
+			@Override
+			public int read(ByteBuffer dst) throws IOException {
+				if (!open)
+					throw new ClosedChannelException();
+				int n = dst.remaining();
+				digest(dst);
+				return n;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return open;
+			}
+
+			@Override
+			public void close() {
+				open = false;
+			}
+		};
+	}
+
+	/**
+	 * Like {@link #outputChannel()}, as an {@link InputStream}.
+	 */
+	public InputStream outputStream() {
+		return new InputStream() {
+			private final byte[] one = new byte[1];
+
+			@Override
+			public int read() {
+				digest(one, 0, 1);
+				return one[0] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				digest(b, off, len);
+				return len;
+			}
+
+			@Override
+			public int available() {
+				return Integer.MAX_VALUE;
+			}
+		};
+	}
+
 	@Override
 	public String toString() {
 		return "SHAKE" + digestSizeBits;
@@ -0,0 +1,108 @@
+package com.joemelsha.crypto.hash;
+
+import java.security.*;
+import java.util.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@SuppressWarnings("serial")
+public class SHAKERandom extends Random {
+	private static final int SEED_SIZE = 32;
+
+	private final SHAKE sponge = new SHAKE(256);
+
+	/**
+	 * Seeded from {@link SecureRandom}. Unlike {@link Random}, no instance is thread-safe or serializable: concurrent
+	 * calls corrupt the sponge, so give each thread its own, e.g. by {@link #split()}, and serializing one throws
+	 * {@link java.io.NotSerializableException}.
+	 */
+	public SHAKERandom() {
+		byte[] seed = new byte[SEED_SIZE];
+		new SecureRandom().nextBytes(seed);
+		setSeed(seed);
+	}
+
+	public SHAKERandom(long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Reads SHAKE256(seed) a lane at a time, permuting once per rate block.
+	 */
+	public SHAKERandom(byte[] seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Restarts the output as SHAKE256 of the 8 little-endian bytes of {@code seed}.
+	 */
+	@Override
+	public void setSeed(long seed) {
+		super.setSeed(seed); //drops Random's cached nextGaussian()
+		if (sponge == null) //called by Random's constructor
+			return;
+		sponge.reset();
+		sponge.updateBits(seed, 64);
+	}
+
+	/**
+	 * Restarts the output as SHAKE256 of {@code seed}.
+	 */
+	public void setSeed(byte[] seed) {
+		super.setSeed(0);
+		sponge.reset();
+		sponge.update(seed);
+	}
+
+	/**
+	 * Derives an independent generator seeded from the next {@value #SEED_SIZE} bytes of this one.
+	 */
+	public SHAKERandom split() {
+		byte[] seed = new byte[SEED_SIZE];
+		sponge.digest(seed);
+		return new SHAKERandom(seed);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (sponge.squeezeLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return (int) (sponge.squeezeLong() >>> 32);
+	}
+
+	@Override
+	public long nextLong() {
+		return sponge.squeezeLong();
+	}
+
+	@Override
+	public double nextDouble() {
+		return (sponge.squeezeLong() >>> 11) * 0x1.0p-53;
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		sponge.digest(bytes);
+	}
+}
@@ -0,0 +1,104 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class TurboSHAKE extends Keccak {
+	public static final int DEFAULT_DOMAIN = 0x1f;
+
+	private int domain;
+
+	public TurboSHAKE(int digestSizeBits) {
+		this(digestSizeBits, DEFAULT_DOMAIN);
+	}
+
+	/**
+	 * TurboSHAKE[c] (RFC 9861): SHAKE's sponge on the 12 round Keccak-p[1600, 12] permutation, for roughly twice
+	 * the throughput. {@code domain} is the separation byte in [ 0x01, 0x7f ] appended before padding.
+	 */
+	public TurboSHAKE(int digestSizeBits, int domain) {
+		super(digestSizeBits, 12);
+		domain(domain);
+	}
+
+	public TurboSHAKE(TurboSHAKE other) {
+		super(other);
+		domain = other.domain;
+	}
+
+	public static void turboshake128(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength, int domain) {
+		checkDomain(domain);
+		hash(in, offset, length, out, outOffset, outLength, 1344, domain, 12);
+	}
+
+	public static void turboshake256(byte[] in, int offset, int length, byte[] out, int outOffset, int outLength, int domain) {
+		checkDomain(domain);
+		hash(in, offset, length, out, outOffset, outLength, 1088, domain, 12);
+	}
+
+	public int domain() {
+		return domain;
+	}
+
+	@Override
+	public String toString() {
+		return "TurboSHAKE" + digestSizeBits;
+	}
+
+	void domain(int domain) {
+		checkDomain(domain);
+		this.domain = domain;
+	}
+
+	private static void checkDomain(int domain) {
+		if (domain < 0x01 || domain > 0x7f)
+			throw new IllegalArgumentException("Invalid domain: " + domain + " ⊄ [ 0x01, 0x7f ]");
+	}
+
+	@Override
+	protected Object tag() {
+		return domain;
+	}
+
+	@Override
+	public void copyFrom(Keccak other) {
+		super.copyFrom(other);
+		domain = ((TurboSHAKE) other).domain;
+	}
+
+	@Override
+	protected void pad() {
+		//the domain byte carries its own delimiter bit, which Keccak.pad() appends
+		int bits = 31 - Integer.numberOfLeadingZeros(domain);
+		updateBits(domain ^ (1 << bits), bits);
+		super.pad();
+	}
+
+	@Override
+	protected int rateSizeBitsFor(int digestSizeBits) {
+		//@formatter:off
+		switch (digestSizeBits) {
+			case 128: return 1344;
+			case 256: return 1088;
+			default: throw new IllegalArgumentException("Invalid digestSizeBits: " + digestSizeBits + " ⊄ { 128, 256 }");
+		}
+		//@formatter:on
+	}
+}
@@ -0,0 +1,55 @@
+package com.joemelsha.crypto.hash;
+
+import jdk.jfr.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@Name("com.joemelsha.crypto.hash.Hash")
+@Label("Keccak Hash")
+@Category("Keccak")
+@Description("An update, digest or one-shot hash of at least 64 KiB, with -Dcom.joemelsha.crypto.hash.metrics=true")
+final class KeccakFlight extends Event {
+	@Label("Algorithm")
+	private String algorithm;
+	@Label("Operation")
+	private String operation;
+	@Label("Bytes")
+	@DataAmount
+	private long bytes;
+
+	private KeccakFlight() {
+	}
+
+	static KeccakFlight start() {
+		KeccakFlight event = new KeccakFlight();
+		event.begin();
+		return event;
+	}
+
+	static void end(KeccakFlight event, String algorithm, String operation, long bytes) {
+		if (!event.shouldCommit())
+			return;
+		event.algorithm = algorithm;
+		event.operation = operation;
+		event.bytes = bytes;
+		event.commit();
+	}
+}
@@ -0,0 +1,50 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class KeccakVector {
+	private static final int LANES = probe();
+
+	private KeccakVector() {
+	}
+
+	static int lanes() {
+		return LANES;
+	}
+
+	static void keccak(long[][] states, int offset, int count, int rounds, long[] scratch) {
+		KeccakVectorEngine.keccak(states, offset, count, rounds, scratch);
+	}
+
+	private static int probe() {
+		if (!Boolean.parseBoolean(System.getProperty("com.joemelsha.crypto.hash.vector", "true")))
+			return 0;
+		//incubator modules are only resolved on request (--add-modules jdk.incubator.vector)
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+			return 0;
+		try {
+			int lanes = KeccakVectorEngine.LANES;
+			return lanes >= 4 ? lanes : 0; //AVX2 or better - two lanes don't beat the scalar permutation
+		} catch (LinkageError x) {
+			return 0;
+		}
+	}
+}
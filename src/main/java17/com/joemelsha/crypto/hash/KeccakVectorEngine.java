@@ -0,0 +1,186 @@
+package com.joemelsha.crypto.hash;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+import jdk.incubator.vector.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class KeccakVectorEngine {
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+	static final int LANES = SPECIES.length();
+
+	private KeccakVectorEngine() {
+	}
+
+	/**
+	 * Permutes {@code count <= LANES} states at once with the last {@code rounds} rounds of Keccak-p[1600], one state
+	 * per vector lane. {@code scratch} holds the
+	 * lane-major transposition and must have room for {@code 25 * LANES} words.
+	 */
+	static void keccak(long[][] states, int offset, int count, int rounds, long[] scratch) {
+		//@formatter:off
+		int n = LANES;
+		for (int s = 0; s < count; ++s) {
+			long[] state = states[offset + s];
+			for (int w = 0, j = s; w < 25; ++w, j += n)
+				scratch[j] = state[w];
+		}
+
+		VectorSpecies<Long> species = SPECIES;
+		LongVector a00 = LongVector.fromArray(species, scratch,  0 * n);
+		LongVector a01 = LongVector.fromArray(species, scratch,  1 * n);
+		LongVector a02 = LongVector.fromArray(species, scratch,  2 * n);
+		LongVector a03 = LongVector.fromArray(species, scratch,  3 * n);
+		LongVector a04 = LongVector.fromArray(species, scratch,  4 * n);
+		LongVector a05 = LongVector.fromArray(species, scratch,  5 * n);
+		LongVector a06 = LongVector.fromArray(species, scratch,  6 * n);
+		LongVector a07 = LongVector.fromArray(species, scratch,  7 * n);
+		LongVector a08 = LongVector.fromArray(species, scratch,  8 * n);
+		LongVector a09 = LongVector.fromArray(species, scratch,  9 * n);
+		LongVector a10 = LongVector.fromArray(species, scratch, 10 * n);
+		LongVector a11 = LongVector.fromArray(species, scratch, 11 * n);
+		LongVector a12 = LongVector.fromArray(species, scratch, 12 * n);
+		LongVector a13 = LongVector.fromArray(species, scratch, 13 * n);
+		LongVector a14 = LongVector.fromArray(species, scratch, 14 * n);
+		LongVector a15 = LongVector.fromArray(species, scratch, 15 * n);
+		LongVector a16 = LongVector.fromArray(species, scratch, 16 * n);
+		LongVector a17 = LongVector.fromArray(species, scratch, 17 * n);
+		LongVector a18 = LongVector.fromArray(species, scratch, 18 * n);
+		LongVector a19 = LongVector.fromArray(species, scratch, 19 * n);
+		LongVector a20 = LongVector.fromArray(species, scratch, 20 * n);
+		LongVector a21 = LongVector.fromArray(species, scratch, 21 * n);
+		LongVector a22 = LongVector.fromArray(species, scratch, 22 * n);
+		LongVector a23 = LongVector.fromArray(species, scratch, 23 * n);
+		LongVector a24 = LongVector.fromArray(species, scratch, 24 * n);
+		LongVector b00, b01, b02, b03, b04, b05, b06, b07, b08, b09, b10, b11, b12, b13, b14, b15, b16, b17, b18, b19, b20, b21, b22, b23, b24;
+		LongVector c0, c1, c2, c3, c4;
+		LongVector d0, d1, d2, d3, d4;
+		long[] rc = KeccakRolled.RC;
+
+		int i = 24 - rounds;
+		do {
+			//theta
+			c0 = a00.lanewise(XOR, a05).lanewise(XOR, a10).lanewise(XOR, a15).lanewise(XOR, a20);
+			c1 = a01.lanewise(XOR, a06).lanewise(XOR, a11).lanewise(XOR, a16).lanewise(XOR, a21);
+			c2 = a02.lanewise(XOR, a07).lanewise(XOR, a12).lanewise(XOR, a17).lanewise(XOR, a22);
+			c3 = a03.lanewise(XOR, a08).lanewise(XOR, a13).lanewise(XOR, a18).lanewise(XOR, a23);
+			c4 = a04.lanewise(XOR, a09).lanewise(XOR, a14).lanewise(XOR, a19).lanewise(XOR, a24);
+			d0 = c4.lanewise(XOR, c1.lanewise(ROL, 1));
+			d1 = c0.lanewise(XOR, c2.lanewise(ROL, 1));
+			d2 = c1.lanewise(XOR, c3.lanewise(ROL, 1));
+			d3 = c2.lanewise(XOR, c4.lanewise(ROL, 1));
+			d4 = c3.lanewise(XOR, c0.lanewise(ROL, 1));
+
+			//rho + pi
+			b00 = a00.lanewise(XOR, d0);
+			b10 = a01.lanewise(XOR, d1).lanewise(ROL, 1);
+			b20 = a02.lanewise(XOR, d2).lanewise(ROL, 62);
+			b05 = a03.lanewise(XOR, d3).lanewise(ROL, 28);
+			b15 = a04.lanewise(XOR, d4).lanewise(ROL, 27);
+			b16 = a05.lanewise(XOR, d0).lanewise(ROL, 36);
+			b01 = a06.lanewise(XOR, d1).lanewise(ROL, 44);
+			b11 = a07.lanewise(XOR, d2).lanewise(ROL, 6);
+			b21 = a08.lanewise(XOR, d3).lanewise(ROL, 55);
+			b06 = a09.lanewise(XOR, d4).lanewise(ROL, 20);
+			b07 = a10.lanewise(XOR, d0).lanewise(ROL, 3);
+			b17 = a11.lanewise(XOR, d1).lanewise(ROL, 10);
+			b02 = a12.lanewise(XOR, d2).lanewise(ROL, 43);
+			b12 = a13.lanewise(XOR, d3).lanewise(ROL, 25);
+			b22 = a14.lanewise(XOR, d4).lanewise(ROL, 39);
+			b23 = a15.lanewise(XOR, d0).lanewise(ROL, 41);
+			b08 = a16.lanewise(XOR, d1).lanewise(ROL, 45);
+			b18 = a17.lanewise(XOR, d2).lanewise(ROL, 15);
+			b03 = a18.lanewise(XOR, d3).lanewise(ROL, 21);
+			b13 = a19.lanewise(XOR, d4).lanewise(ROL, 8);
+			b14 = a20.lanewise(XOR, d0).lanewise(ROL, 18);
+			b24 = a21.lanewise(XOR, d1).lanewise(ROL, 2);
+			b09 = a22.lanewise(XOR, d2).lanewise(ROL, 61);
+			b19 = a23.lanewise(XOR, d3).lanewise(ROL, 56);
+			b04 = a24.lanewise(XOR, d4).lanewise(ROL, 14);
+
+			//chi
+			a00 = b00.lanewise(XOR, b02.lanewise(AND_NOT, b01));
+			a01 = b01.lanewise(XOR, b03.lanewise(AND_NOT, b02));
+			a02 = b02.lanewise(XOR, b04.lanewise(AND_NOT, b03));
+			a03 = b03.lanewise(XOR, b00.lanewise(AND_NOT, b04));
+			a04 = b04.lanewise(XOR, b01.lanewise(AND_NOT, b00));
+			a05 = b05.lanewise(XOR, b07.lanewise(AND_NOT, b06));
+			a06 = b06.lanewise(XOR, b08.lanewise(AND_NOT, b07));
+			a07 = b07.lanewise(XOR, b09.lanewise(AND_NOT, b08));
+			a08 = b08.lanewise(XOR, b05.lanewise(AND_NOT, b09));
+			a09 = b09.lanewise(XOR, b06.lanewise(AND_NOT, b05));
+			a10 = b10.lanewise(XOR, b12.lanewise(AND_NOT, b11));
+			a11 = b11.lanewise(XOR, b13.lanewise(AND_NOT, b12));
+			a12 = b12.lanewise(XOR, b14.lanewise(AND_NOT, b13));
+			a13 = b13.lanewise(XOR, b10.lanewise(AND_NOT, b14));
+			a14 = b14.lanewise(XOR, b11.lanewise(AND_NOT, b10));
+			a15 = b15.lanewise(XOR, b17.lanewise(AND_NOT, b16));
+			a16 = b16.lanewise(XOR, b18.lanewise(AND_NOT, b17));
+			a17 = b17.lanewise(XOR, b19.lanewise(AND_NOT, b18));
+			a18 = b18.lanewise(XOR, b15.lanewise(AND_NOT, b19));
+			a19 = b19.lanewise(XOR, b16.lanewise(AND_NOT, b15));
+			a20 = b20.lanewise(XOR, b22.lanewise(AND_NOT, b21));
+			a21 = b21.lanewise(XOR, b23.lanewise(AND_NOT, b22));
+			a22 = b22.lanewise(XOR, b24.lanewise(AND_NOT, b23));
+			a23 = b23.lanewise(XOR, b20.lanewise(AND_NOT, b24));
+			a24 = b24.lanewise(XOR, b21.lanewise(AND_NOT, b20));
+
+			//iota
+			a00 = a00.lanewise(XOR, rc[i]);
+
+			i++;
+		} while (i < 24);
+
+		a00.intoArray(scratch,  0 * n);
+		a01.intoArray(scratch,  1 * n);
+		a02.intoArray(scratch,  2 * n);
+		a03.intoArray(scratch,  3 * n);
+		a04.intoArray(scratch,  4 * n);
+		a05.intoArray(scratch,  5 * n);
+		a06.intoArray(scratch,  6 * n);
+		a07.intoArray(scratch,  7 * n);
+		a08.intoArray(scratch,  8 * n);
+		a09.intoArray(scratch,  9 * n);
+		a10.intoArray(scratch, 10 * n);
+		a11.intoArray(scratch, 11 * n);
+		a12.intoArray(scratch, 12 * n);
+		a13.intoArray(scratch, 13 * n);
+		a14.intoArray(scratch, 14 * n);
+		a15.intoArray(scratch, 15 * n);
+		a16.intoArray(scratch, 16 * n);
+		a17.intoArray(scratch, 17 * n);
+		a18.intoArray(scratch, 18 * n);
+		a19.intoArray(scratch, 19 * n);
+		a20.intoArray(scratch, 20 * n);
+		a21.intoArray(scratch, 21 * n);
+		a22.intoArray(scratch, 22 * n);
+		a23.intoArray(scratch, 23 * n);
+		a24.intoArray(scratch, 24 * n);
+
+		for (int s = 0; s < count; ++s) {
+			long[] state = states[offset + s];
+			for (int w = 0, j = s; w < 25; ++w, j += n)
+				state[w] = scratch[j];
+		}
+		//@formatter:on
+	}
+}
@@ -0,0 +1,118 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.commons.codec.*;
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KangarooTwelveTest {
+	private ForkJoinPool pool;
+
+	public KangarooTwelveTest() {
+	}
+
+	@Before
+	public void init() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@Test
+	public void testValid() throws DecoderException {
+		//RFC 9861 test vectors
+		//@formatter:off
+		assertHash(0, 0, 32, "1ac2d450fc3b4205d19da7bfca1b37513c0803577ac7167f06fe2ce1f0ef39e5");
+		assertHash(0, 0, 64, "1ac2d450fc3b4205d19da7bfca1b37513c0803577ac7167f06fe2ce1f0ef39e54269c056b8c82e48276038b6d292966cc07a3d4645272e31ff38508139eb0a71");
+		assertHash(1, 0, 32, "2bda92450e8b147f8a7cb629e784a058efca7cf7d8218e02d345dfaa65244a1f");
+		assertHash(17, 0, 32, "6bf75fa2239198db4772e36478f8e19b0f371205f6a9a93a273f51df37122888");
+		assertHash(17 * 17, 0, 32, "0c315ebcdedbf61426de7dcf8fb725d1e74675d7f5327a5067f367b108ecb67c");
+		assertHash(17 * 17 * 17, 0, 32, "cb552e2ec77d9910701d578b457ddf772c12e322e4ee7fe417f92c758f0d59d0");
+		assertHash(17 * 17 * 17 * 17, 0, 32, "8701045e22205345ff4dda05555cbb5c3af1a771c2b89baef37db43d9998b9fe");
+		assertHash(17 * 17 * 17 * 17 * 17, 0, 32, "844d610933b1b9963cbdeb5ae3b6b05cc7cbd67ceedf883eb678a0a8e0371682");
+		assertHash(17 * 17 * 17 * 17 * 17 * 17, 0, 32, "3c390782a8a4e89fa6367f72feaaf13255c8d95878481d3cd8ce85f58e880af8");
+		assertHash(0, 1, 32, "fab658db63e94a246188bf7af69a133045f46ee984c56e3c3328caaf1aa1a583");
+		//chunk boundaries
+		assertHash(8191, 0, 32, "1b577636f723643e990cc7d6a659837436fd6a103626600eb8301cd1dbe553d6");
+		assertHash(8192, 0, 32, "48f256f6772f9edfb6a8b661ec92dc93b95ebd05a08a17b39ae3490870c926c3");
+		assertHash(8192, 7, 32, "248101a4dec830ffcab633a37d16f0633bbff2813a0476828981e06c8f816ded");
+		assertHash(3 * 8192 + 5, 100, 32, "5573353238ffab3393df958c70f96e6ef5b7dcaeb0c0aa553541fcd7889a2d77");
+		//@formatter:on
+
+		assertHash(new byte[] { (byte) 0xff }, TestVectors.ptn(41), "d848c5068ced736f4462159b9867fd4c20b808acc3d5bc48e0b06ba0a3762ec4");
+		assertHash(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff }, TestVectors.ptn(41 * 41), "c389e5009ae57120854c2e8c64670ac01358cf4c1baf89447a724234dc7ced74");
+		assertHash(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff }, TestVectors.ptn(41 * 41 * 41), "75d2f86a2e644566726b4fbcfc5657b9dbcf070c7b0dca06450ab291d7443bcf");
+
+		//last 32 bytes of a 10032 byte output
+		byte[] out = KangarooTwelve.hash(new byte[0], 10032);
+		Assert.assertEquals("mismatch", "e8dc563642f7228c84684c898405d3a834799158c079b12880277a1d28e2ff6d", Hex.encodeHexString(Arrays.copyOfRange(out, 10000, 10032)));
+	}
+
+	@Test
+	public void testStreaming() {
+		Random random = new Random(13636363L);
+		for (int length : new int[] { 0, 100, 8191, 8192, 8193, 2 * 8192, 9 * 8192 + 1, 300 * 8192 + 17 }) {
+			byte[] in = new byte[length];
+			random.nextBytes(in);
+			byte[] customization = new byte[random.nextInt(20)];
+			random.nextBytes(customization);
+
+			String expected = Hex.encodeHexString(KangarooTwelve.hash(ByteBuffer.wrap(in), customization, 64));
+			for (ForkJoinPool pool : new ForkJoinPool[] { null, this.pool }) {
+				KangarooTwelve hash = new KangarooTwelve(customization, pool);
+				for (int round = 0; round < 2; ++round) {
+					hash.reset();
+					ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+					buffer.put(in).flip();
+					while (buffer.hasRemaining()) {
+						ByteBuffer piece = buffer.duplicate();
+						piece.limit(Math.min(buffer.limit(), buffer.position() + random.nextInt(3 * 8192)));
+						hash.update(piece);
+						buffer.position(piece.position());
+					}
+					byte[] out = new byte[64];
+					hash.digest(out, 0, 20);
+					hash.digest(out, 20, 44);
+					Assert.assertEquals("mismatch (" + length + ", " + pool + ")", expected, Hex.encodeHexString(out));
+				}
+			}
+		}
+	}
+
+	private void assertHash(int length, int customizationLength, int outSize, String expected) {
+		byte[] out = KangarooTwelve.hash(ByteBuffer.wrap(TestVectors.ptn(length)), TestVectors.ptn(customizationLength), outSize);
+		Assert.assertEquals("mismatch", expected, Hex.encodeHexString(out));
+	}
+
+	private void assertHash(byte[] in, byte[] customization, String expected) {
+		KangarooTwelve hash = new KangarooTwelve(customization, pool);
+		hash.update(in);
+		Assert.assertEquals("mismatch", expected, Hex.encodeHexString(hash.digestArray()));
+	}
+
+	@After
+	public void destroy() {
+		pool.shutdown();
+	}
+}
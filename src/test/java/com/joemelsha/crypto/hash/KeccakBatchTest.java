@@ -0,0 +1,111 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakBatchTest {
+	private Random random;
+
+	public KeccakBatchTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testValid() {
+		testValid(new Keccak(256), 32);
+		testValid(new Keccak(512), 64);
+		testValid(new SHA3(224), 28);
+		testValid(new SHA3(256), 32);
+		testValid(new SHA3(384), 48);
+		testValid(new SHAKE(128), 400); //squeezes past the first block
+		testValid(new SHAKE(256), 32);
+	}
+
+	@Test
+	public void testCSHAKE() {
+		testValid(new CSHAKE(128, "N".getBytes(), "S".getBytes()), 32);
+		testValid(new CSHAKE(256, new byte[0], "Email Signature".getBytes()), 64);
+		testValid(new CSHAKE(128, new byte[0], new byte[0]), 32); //plain SHAKE
+	}
+
+	private void testValid(Keccak hash, int outSize) {
+		for (int n = 0; n <= 13; ++n) {
+			ByteBuffer[] inputs = new ByteBuffer[n];
+			ByteBuffer[] outputs = new ByteBuffer[n];
+			byte[][] expected = new byte[n][];
+			for (int i = 0; i < n; ++i) {
+				//mix of empty, sub-block, exact-block and multi-block inputs
+				int length = i % 4 == 3 ? hash.rateSize() * (1 + random.nextInt(3)) : random.nextInt(3 * hash.rateSize());
+				byte[] in = new byte[length];
+				random.nextBytes(in);
+				inputs[i] = (i & 1) == 0 ? ByteBuffer.wrap(in) : (ByteBuffer) ByteBuffer.allocateDirect(length).put(in).flip();
+				outputs[i] = (i & 2) == 0 ? ByteBuffer.allocate(outSize) : ByteBuffer.allocateDirect(outSize);
+
+				Keccak reference = copy(hash);
+				reference.reset();
+				reference.update(in);
+				expected[i] = new byte[outSize];
+				reference.digest(expected[i]);
+			}
+
+			hash.reset();
+			hash.update((byte) 0x5a);
+			hash.hashBatch(inputs, outputs);
+
+			for (int i = 0; i < n; ++i) {
+				Assert.assertEquals("input not consumed", 0, inputs[i].remaining());
+				Assert.assertEquals("output not filled", 0, outputs[i].remaining());
+				outputs[i].flip();
+				byte[] out = new byte[outSize];
+				outputs[i].get(out);
+				Assert.assertArrayEquals(hash + " mismatch (" + i + " of " + n + ")", expected[i], out);
+			}
+
+			//this instance's own state must be untouched
+			Keccak reference = copy(hash);
+			reference.reset();
+			reference.update((byte) 0x5a);
+			Assert.assertArrayEquals(hash + " state disturbed", reference.digestArray(outSize), hash.digestArray(outSize));
+		}
+	}
+
+	private static Keccak copy(Keccak hash) {
+		if (hash instanceof SHA3)
+			return new SHA3((SHA3) hash);
+		if (hash instanceof CSHAKE)
+			return new CSHAKE((CSHAKE) hash);
+		if (hash instanceof SHAKE)
+			return new SHAKE((SHAKE) hash);
+		return new Keccak(hash);
+	}
+
+	@After
+	public void destroy() {
+	}
+}
@@ -0,0 +1,170 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+import com.joemelsha.crypto.hash.KeccakChunker.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakChunkerTest {
+	private Random random;
+	private ForkJoinPool pool;
+
+	public KeccakChunkerTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void destroy() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testChunks() throws IOException {
+		byte[] data = new byte[18 << 20]; //spans a few of the channel path's segments
+		random.nextBytes(data);
+
+		List<Chunk> chunks = chunk(KeccakChunker.sha3_256(null), data);
+		long offset = 0;
+		for (int i = 0; i < chunks.size(); ++i) {
+			Chunk chunk = chunks.get(i);
+			Assert.assertEquals(offset, chunk.offset());
+			if (i < chunks.size() - 1) {
+				Assert.assertTrue(chunk.length() >= KeccakChunker.DEFAULT_MIN_SIZE);
+				Assert.assertTrue(chunk.length() <= KeccakChunker.DEFAULT_MAX_SIZE);
+			}
+			byte[] digest = new byte[32];
+			SHA3.sha3_256(data, (int) offset, chunk.length(), digest, 0);
+			Assert.assertArrayEquals(digest, chunk.digest());
+			offset += chunk.length();
+		}
+		Assert.assertEquals(data.length, offset);
+		double average = (double) data.length / chunks.size();
+		Assert.assertTrue(String.valueOf(average), average > KeccakChunker.DEFAULT_AVG_SIZE * 0.75 && average < KeccakChunker.DEFAULT_AVG_SIZE * 1.5);
+
+		//the pool, the channel and direct buffers must not change a thing
+		assertSame(chunks, chunk(KeccakChunker.sha3_256(pool), data));
+		assertSame(chunks, chunkChannel(KeccakChunker.sha3_256(null), data));
+		assertSame(chunks, chunkChannel(KeccakChunker.sha3_256(pool), data));
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+		direct.put(data).flip();
+		List<Chunk> directChunks = new ArrayList<>();
+		KeccakChunker.sha3_256(pool).chunk(direct, directChunks::add);
+		assertSame(chunks, directChunks);
+	}
+
+	@Test(expected = IllegalBlockingModeException.class)
+	public void testNonBlocking() throws IOException {
+		Pipe pipe = Pipe.open();
+		try {
+			pipe.source().configureBlocking(false);
+			KeccakChunker.sha3_256(pool).chunk(pipe.source(), chunk -> {
+			});
+		} finally {
+			pipe.sink().close();
+			pipe.source().close();
+		}
+	}
+
+	@Test
+	public void testShift() throws IOException {
+		//an insertion only disturbs the chunks around it
+		byte[] data = new byte[1 << 20];
+		random.nextBytes(data);
+		byte[] edited = new byte[data.length + 100];
+		byte[] insert = new byte[100];
+		random.nextBytes(insert);
+		System.arraycopy(data, 0, edited, 0, 1000);
+		System.arraycopy(insert, 0, edited, 1000, insert.length);
+		System.arraycopy(data, 1000, edited, 1100, data.length - 1000);
+
+		KeccakChunker chunker = KeccakChunker.turboSHAKE128(pool);
+		Set<String> before = new HashSet<>();
+		for (Chunk chunk : chunk(chunker, data))
+			before.add(Arrays.toString(chunk.digest()));
+		List<Chunk> after = chunk(chunker, edited);
+		int shared = 0;
+		for (Chunk chunk : after)
+			if (before.contains(Arrays.toString(chunk.digest())))
+				shared++;
+		Assert.assertTrue(shared + " / " + after.size(), shared >= after.size() - 3);
+
+		TurboSHAKE hash = new TurboSHAKE(128);
+		Chunk last = after.get(after.size() - 1);
+		hash.update(edited, (int) last.offset(), last.length());
+		Assert.assertArrayEquals(hash.digestArray(32), last.digest());
+	}
+
+	private static List<Chunk> chunk(KeccakChunker chunker, byte[] data) {
+		List<Chunk> chunks = new ArrayList<>();
+		Assert.assertEquals(data.length, chunker.chunk(ByteBuffer.wrap(data), chunks::add));
+		return chunks;
+	}
+
+	private List<Chunk> chunkChannel(KeccakChunker chunker, byte[] data) throws IOException {
+		//short reads, as from a socket
+		ReadableByteChannel trickle = new ReadableByteChannel() {
+			private int position;
+
+			@Override
+			public int read(ByteBuffer dst) {
+				if (position >= data.length)
+					return -1;
+				int n = Math.min(Math.min(dst.remaining(), data.length - position), 1 + random.nextInt(100000));
+				dst.put(data, position, n);
+				position += n;
+				return n;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		List<Chunk> chunks = new ArrayList<>();
+		Assert.assertEquals(data.length, chunker.chunk(trickle, chunks::add));
+		return chunks;
+	}
+
+	private static void assertSame(List<Chunk> expected, List<Chunk> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			Assert.assertEquals(expected.get(i).offset(), actual.get(i).offset());
+			Assert.assertEquals(expected.get(i).length(), actual.get(i).length());
+			Assert.assertArrayEquals(expected.get(i).digest(), actual.get(i).digest());
+		}
+	}
+}
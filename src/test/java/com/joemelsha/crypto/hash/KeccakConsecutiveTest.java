@@ -1,6 +1,8 @@
 package com.joemelsha.crypto.hash;
 
+import java.nio.*;
 import java.nio.charset.*;
+import java.util.*;
 
 import org.junit.*;
 
@@ -90,6 +92,100 @@ public class KeccakConsecutiveTest {
 		Assert.assertEquals("spongycastle != ours failed", k2, b2);
 	}
 
+	@Test
+	public void testSplit() {
+		//byte[] and direct buffer paths must agree however the input and output are split up
+		Random random = new Random(13636363L);
+		for (int length = 0; length < 700; length += 1 + random.nextInt(17)) {
+			byte[] input = new byte[length];
+			random.nextBytes(input);
+			SHAKE a = new SHAKE(128), b = new SHAKE(128);
+			for (int i = 0; i < length;) {
+				int c = Math.min(length - i, random.nextInt(200));
+				a.update(input, i, c);
+				ByteBuffer buffer = ByteBuffer.allocateDirect(c);
+				buffer.put(input, i, c).flip();
+				b.update(buffer);
+				i += c;
+			}
+			for (int i = 0; i < 3; ++i) {
+				int c = random.nextInt(400);
+				byte[] out = new byte[c + 2];
+				a.digest(out, 1, c);
+				ByteBuffer buffer = ByteBuffer.allocateDirect(c);
+				b.digest(buffer);
+				buffer.flip();
+				byte[] expected = new byte[c + 2];
+				buffer.get(expected, 1, c);
+				Assert.assertArrayEquals("mismatch (" + length + ")", expected, out);
+			}
+		}
+	}
+
+	@Test
+	public void testWrappingSubclass() {
+		//the old delegation ran byte[] -> ByteBuffer, so subclasses written against it must not recurse
+		SHA3 wrapping = new SHA3(256) {
+			@Override
+			public void update(byte[] in, int offset, int length) {
+				update(ByteBuffer.wrap(in, offset, length));
+			}
+
+			@Override
+			public void digest(byte[] out, int offset, int length) {
+				digest(ByteBuffer.wrap(out, offset, length));
+			}
+		};
+		byte[] input = new byte[300];
+		new Random(13636363L).nextBytes(input);
+		SHA3 expected = new SHA3(256);
+		expected.update(input);
+		wrapping.update(input);
+		Assert.assertArrayEquals(expected.digestArray(), wrapping.digestArray());
+	}
+
+	@Test
+	public void testGather() {
+		//mixed heap, direct, read-only and big-endian pieces, after an unaligned prefix, against one flat update
+		Random random = new Random(13636363L);
+		for (int n = 0; n < 300; ++n) {
+			byte[] input = new byte[random.nextInt(1500)];
+			random.nextBytes(input);
+			int prefix = random.nextInt(Math.min(input.length, 150) + 1);
+			List<ByteBuffer> pieces = new ArrayList<>();
+			pieces.add(ByteBuffer.allocate(0));
+			for (int i = prefix; i < input.length;) {
+				int c = Math.min(input.length - i, random.nextInt(random.nextBoolean() ? 12 : 300));
+				ByteBuffer buffer;
+				switch (random.nextInt(4)) {
+					case 0:
+						buffer = ByteBuffer.wrap(input, i, c).slice();
+						break;
+					case 1:
+						buffer = ByteBuffer.wrap(input, i, c).slice().asReadOnlyBuffer();
+						break;
+					default:
+						buffer = ByteBuffer.allocateDirect(c + 3).order(random.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+						buffer.position(3);
+						buffer.put(input, i, c).position(3);
+				}
+				pieces.add(buffer);
+				i += c;
+			}
+			ByteBuffer[] srcs = pieces.toArray(new ByteBuffer[pieces.size() + 1]);
+			srcs[srcs.length - 1] = ByteBuffer.allocate(0);
+
+			SHA3 a = new SHA3(256), b = new SHA3(256);
+			a.update(input);
+			b.update(input, 0, prefix);
+			b.update(srcs, 0, srcs.length);
+			b.update(input, 0, 0);
+			for (ByteBuffer buffer : srcs)
+				Assert.assertFalse(buffer.hasRemaining());
+			Assert.assertArrayEquals("mismatch (" + input.length + ")", a.digestArray(), b.digestArray());
+		}
+	}
+
 	@After
 	public void destroy() {
 	}
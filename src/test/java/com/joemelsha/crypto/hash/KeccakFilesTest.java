@@ -0,0 +1,75 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+import org.junit.rules.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakFilesTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ExecutorService executor;
+
+	public KeccakFilesTest() {
+	}
+
+	@Before
+	public void init() {
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@Test
+	public void testValid() throws IOException {
+		Random random = new Random(13636363L);
+		for (int length : new int[] { 0, 1, 4095, 4096, 3 * 4096 + 123, 1 << 20 }) {
+			byte[] in = new byte[length];
+			random.nextBytes(in);
+			Path file = folder.newFile().toPath();
+			Files.write(file, in);
+
+			SHA3 reference = new SHA3(256);
+			reference.update(in);
+			byte[] expected = reference.digestArray();
+
+			Assert.assertArrayEquals("mismatch (" + length + ")", expected, KeccakFiles.hash(file, new SHA3(256)));
+			for (Executor prefetch : new Executor[] { null, executor }) {
+				for (int windowSize : new int[] { 1, 4096, 5000, 1 << 30 }) {
+					if (windowSize == 1 && length > 4096)
+						continue;
+					SHA3 hash = new SHA3(256);
+					Assert.assertEquals("length", length, KeccakFiles.update(file, hash, windowSize, prefetch));
+					Assert.assertArrayEquals("mismatch (" + length + ", " + windowSize + ", " + prefetch + ")", expected, hash.digestArray());
+				}
+			}
+		}
+	}
+
+	@After
+	public void destroy() {
+		executor.shutdown();
+	}
+}
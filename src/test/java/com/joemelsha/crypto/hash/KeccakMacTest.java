@@ -0,0 +1,109 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+import org.apache.commons.codec.*;
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakMacTest {
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	public KeccakMacTest() {
+	}
+
+	@Before
+	public void init() {
+	}
+
+	@Test
+	public void testHmac() throws DecoderException {
+		//@formatter:off
+		assertHmac(224, 0,   "dd1f4da118229029eebff54001ab3bf04d8ee23eabacda3d4b0d7ce7");
+		assertHmac(224, 200, "c43f024c5dc62d42a6ff872fa0710ff89768350792f4acab50eb545c");
+		assertHmac(256, 0,   "9210477e752c6fd59cadd3903cf1ca2a1d511ed4e391d8e5b8c238b6c3e1b5d8");
+		assertHmac(256, 20,  "b5d142a8bcffa1e7c0d169deca0feceb8d2bd9b2940af9cc01fc48c7a00f8ff2");
+		assertHmac(256, 200, "ff7b497380f526aec40a9eb431ec705fafccc7ecf48b930fcc4badb67d717107");
+		assertHmac(384, 20,  "235404f4d95aa305620af83e6aac40a22df1fb92f28c59b99cd4105ad0203320084d6f752a900cf2184735eff63c21e7");
+		assertHmac(512, 20,  "3804dddfe564568573326334db5aea487e4114531fbc3d3228b8f085b59a24b2bcfa03d7abbcb244e23ae773c99c27303bcf22c255fca7d03b911d16cef9caa7");
+		assertHmac(512, 200, "6e89057211a16fe627e164ef25ad25424b335456df6f642619f59dcf402e9329375100df3d36bae908d335a425d801f55e35f63165898d355529b4d9a47b622f");
+		//@formatter:on
+	}
+
+	@Test
+	public void testKmac() throws DecoderException {
+		//NIST SP 800-185 samples
+		//@formatter:off
+		assertKmac(128, "00010203",                     "",                      256, "e5780b0d3ea6f7d3a429c5706aa43a00fadbd7d49628839e3187243f456ee14e");
+		assertKmac(128, "00010203",                     "My Tagged Application", 256, "3b1fba963cd8b0b59e8c1a6d71888b7143651af8ba0a7070c0979e2811324aa5");
+		assertKmac(128, Hex.encodeHexString(TestVectors.ptn(200)), "My Tagged Application", 256, "1f5b4e6cca02209e0dcb5ca635b89a15e271ecc760071dfd805faa38f9729230");
+		assertKmac(256, "00010203",                     "My Tagged Application", 512, "20c570c31346f703c9ac36c61c03cb64c3970d0cfc787e9b79599d273a68d2f7f69d4cc3de9d104a351689f27cf6f5951f0103f33f4f24871024d9c27773a8dd");
+		assertKmac(256, Hex.encodeHexString(TestVectors.ptn(200)), "",                      512, "75358cf39e41494e949707927cee0af20a3ff553904c86b08f21cc414bcfd691589d27cf5e15369cbbff8b9a4c2eb17800855d0235ff635da82533ec6b759b69");
+		assertKmac(256, Hex.encodeHexString(TestVectors.ptn(200)), "My Tagged Application", 512, "b58618f71f92e1d56c1b8c55ddd7cd188b97b4ca4d99831eb2699a837da2e4d970fbacfde50033aea585f1a2708510c32d07880801bd182898fe476876fc8965");
+		//XOF
+		assertKmac(128, "00010203",                     "",                      0,   "cd83740bbd92ccc8cf032b1481a0f4460e7ca9dd12b08a0c4031178bacd6ec35");
+		assertKmac(128, Hex.encodeHexString(TestVectors.ptn(200)), "My Tagged Application", 0,   "47026c7cd793084aa0283c253ef658490c0db61438b8326fe9bddf281b83ae0f");
+		assertKmac(256, "00010203",                     "My Tagged Application", 0,   "1755133f1534752aad0748f2c706fb5c784512cab835cd15676b16c0c6647fa96faa7af634a0bf8ff6df39374fa00fad9a39e322a7c92065a64eb1fb0801eb2b");
+		assertKmac(256, Hex.encodeHexString(TestVectors.ptn(200)), "",                      0,   "ff7b171f1e8a2b24683eed37830ee797538ba8dc563f6da1e667391a75edc02ca633079f81ce12a25f45615ec89972031d18337331d24ceb8f8ca8e6a19fd98b");
+		//@formatter:on
+	}
+
+	private void assertHmac(int bits, int keyLength, String expected) {
+		HmacSHA3 mac = new HmacSHA3(bits, TestVectors.ptn(keyLength));
+		for (int round = 0; round < 2; ++round) {
+			mac.reset();
+			mac.update(TestVectors.ptn(300));
+			Assert.assertEquals("mismatch", expected, Hex.encodeHexString(mac.digestArray()));
+		}
+		mac.reset();
+		mac.update(TestVectors.ptn(300));
+		try {
+			mac.digest(ByteBuffer.allocate(mac.digestSize() + 1)); //too much, rejected before finishing
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		mac.update(new byte[0]);
+		byte[] out = new byte[mac.digestSize()];
+		mac.digest(out, 0, 5);
+		mac.digest(ByteBuffer.wrap(out, 5, out.length - 5));
+		Assert.assertEquals("mismatch", expected, Hex.encodeHexString(out));
+	}
+
+	private void assertKmac(int bits, String in, String customization, int digestSizeBits, String expected) throws DecoderException {
+		byte[] key = Hex.decodeHex("404142434445464748494a4b4c4d4e4f505152535455565758595a5b5c5d5e5f".toCharArray());
+		KMAC mac = new KMAC(bits, key, customization.getBytes(US_ASCII), digestSizeBits);
+		for (int round = 0; round < 2; ++round) {
+			mac.reset();
+			mac.update(Hex.decodeHex(in.toCharArray()));
+			byte[] out = new byte[expected.length() >>> 1];
+			mac.digest(out, 0, 7);
+			mac.digest(out, 7, out.length - 7);
+			Assert.assertEquals("mismatch", expected, Hex.encodeHexString(out));
+		}
+	}
+
+	@After
+	public void destroy() {
+	}
+}
@@ -0,0 +1,89 @@
+package com.joemelsha.crypto.hash;
+
+import java.lang.management.*;
+import java.nio.*;
+
+import javax.management.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakMetricsTest {
+	public KeccakMetricsTest() {
+	}
+
+	@Before
+	public void init() {
+		//only counted with -Dcom.joemelsha.crypto.hash.metrics=true, see the test-metrics execution
+		Assume.assumeTrue(KeccakMetrics.ENABLED);
+	}
+
+	@Test
+	public void testCounters() throws JMException {
+		KeccakMetrics metrics = KeccakMetrics.of("SHA3-256");
+		metrics.reset();
+
+		SHA3 hash = new SHA3(256);
+		hash.update(new byte[1000]); //7 blocks, the last one is permuted by the digest
+		hash.digest(ByteBuffer.allocateDirect(32));
+		SHA3.sha3_256(new byte[100], 0, 100, new byte[32], 0);
+		hash.reset();
+		hash.update(ByteBuffer.allocateDirect(1 << 17));
+
+		Assert.assertEquals(1000 + 100 + (1 << 17), metrics.getBytesAbsorbed());
+		Assert.assertEquals(32 + 32, metrics.getBytesSqueezed());
+		Assert.assertEquals(8 + 1 + ((1 << 17) - 1) / 136, metrics.getPermutations());
+		Assert.assertEquals(1, metrics.getCalls64B());
+		Assert.assertEquals(2, metrics.getCalls1KiB());
+		Assert.assertEquals(0, metrics.getCalls64KiB());
+		Assert.assertEquals(1, metrics.getCalls1MiB());
+		Assert.assertEquals(0, metrics.getCallsLarger());
+
+		ObjectName name = new ObjectName("com.joemelsha.crypto.hash:type=KeccakMetrics,algorithm=SHA3-256");
+		Assert.assertEquals(metrics.getBytesAbsorbed(), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "BytesAbsorbed"));
+	}
+
+	@Test
+	public void testAlgorithms() {
+		KeccakMetrics keccak = KeccakMetrics.of("Keccak-256"), shake = KeccakMetrics.of("SHAKE128"), turbo = KeccakMetrics.of("TurboSHAKE256");
+		long keccakCalls = keccak.getCalls64B(), shakeBytes = shake.getBytesSqueezed(), turboBytes = turbo.getBytesAbsorbed();
+		Keccak.keccak256_32(new byte[32], 0, new byte[32], 0);
+		SHAKE.shake128(new byte[10], 0, 10, new byte[500], 0, 500);
+		TurboSHAKE turboSHAKE = new TurboSHAKE(256);
+		turboSHAKE.update(new byte[7]);
+		Assert.assertEquals(keccakCalls + 1, keccak.getCalls64B());
+		Assert.assertEquals(shakeBytes + 500, shake.getBytesSqueezed());
+		Assert.assertEquals(turboBytes + 7, turbo.getBytesAbsorbed());
+	}
+
+	@Test
+	public void testRestoreResized() {
+		KeccakMetrics sha3_256 = KeccakMetrics.of("SHA3-256"), sha3_512 = KeccakMetrics.of("SHA3-512");
+		SHA3 small = new SHA3(256), large = new SHA3(512);
+		large.update(new byte[1]); //caches its SHA3-512 counters
+		long smallBytes = sha3_256.getBytesAbsorbed(), largeBytes = sha3_512.getBytesAbsorbed();
+		large.restore(small.snapshot());
+		large.update(new byte[3]);
+		Assert.assertEquals(smallBytes + 3, sha3_256.getBytesAbsorbed());
+		Assert.assertEquals(largeBytes, sha3_512.getBytesAbsorbed());
+	}
+}
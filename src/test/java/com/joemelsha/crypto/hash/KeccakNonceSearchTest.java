@@ -0,0 +1,172 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakNonceSearchTest {
+	private Random random;
+	private ForkJoinPool pool;
+
+	public KeccakNonceSearchTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(2718281828L);
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void destroy() {
+		pool.shutdownNow();
+		pool = null;
+		random = null;
+	}
+
+	@Test
+	public void testMidstate() {
+		//@formatter:off
+		Keccak[] hashes = {
+			new Keccak(256),
+			new SHA3(256),
+			new SHA3(512),
+			new SHAKE(128),
+			new TurboSHAKE(256, 0x7f),
+		};
+		//@formatter:on
+		for (Keccak hash : hashes) {
+			int rate = hash.rateSize();
+			//one block, straddling a lane, filling the block exactly, straddling blocks, two blocks in
+			for (int length : new int[] { 0, 5, rate - 9, rate - 8, rate - 5, rate - 1, rate, 2 * rate - 3 }) {
+				byte[] header = new byte[length];
+				random.nextBytes(header);
+				hash.reset();
+				hash.update(header);
+				KeccakNonceSearch search = KeccakNonceSearch.lessThan(hash, new byte[] { (byte) 0x80 });
+				for (int j = 0; j < 64; ++j) {
+					long nonce = random.nextLong();
+					Assert.assertEquals(hash + " " + length, (digest(hash, nonce)[0] & 0x80) == 0, search.matches(nonce));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLeadingZeroBits() {
+		SHA3 hash = new SHA3(256);
+		hash.update("block header".getBytes());
+		KeccakNonceSearch search = KeccakNonceSearch.leadingZeroBits(hash, 12);
+		long nonce = search.search(0, 1 << 20).getAsLong();
+		byte[] digest = digest(hash, nonce);
+		Assert.assertEquals(0, digest[0]);
+		Assert.assertEquals(0, digest[1] & 0xf0);
+		for (long i = 0; i < nonce; ++i) {
+			byte[] d = digest(hash, i);
+			Assert.assertFalse(d[0] == 0 && (d[1] & 0xf0) == 0);
+		}
+		Assert.assertTrue(search.matches(nonce));
+		Assert.assertFalse(search.search(nonce + 1, 0).isPresent());
+
+		//the hash is left as it was
+		hash.update(longBytes(nonce));
+		Assert.assertArrayEquals(digest, hash.digestArray(digest.length));
+	}
+
+	@Test
+	public void testLessThan() {
+		Keccak hash = new Keccak(256);
+		hash.update(new byte[100]);
+		byte[] target = { 0x00, 0x12, 0x34 };
+		KeccakNonceSearch search = KeccakNonceSearch.lessThan(hash, target);
+		for (long nonce = 0; nonce < 1 << 16; ++nonce) {
+			byte[] d = digest(hash, nonce);
+			int c = Integer.compare(((d[0] & 0xff) << 16) | ((d[1] & 0xff) << 8) | (d[2] & 0xff), 0x001234);
+			Assert.assertEquals(c < 0, search.matches(nonce));
+		}
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		SHA3 hash = new SHA3(256);
+		hash.update(new byte[200]);
+		KeccakNonceSearch search = KeccakNonceSearch.leadingZeroBits(hash, 14);
+		long first = search.search(1000, 1 << 22).getAsLong();
+		long nonce = search.search(1000, 1 << 22, pool, 4).getAsLong();
+		Assert.assertTrue(nonce >= first && search.matches(nonce));
+		Assert.assertEquals(first, search.search(first, 1, pool, 4).getAsLong());
+		Assert.assertFalse(search.search(first + 1, 0, pool, 4).isPresent());
+
+		//exhausting the range
+		KeccakNonceSearch never = KeccakNonceSearch.leadingZeroBits(hash, 200);
+		Assert.assertFalse(never.search(0, 50000, pool, 4).isPresent());
+
+		//cancelling stops every worker
+		CompletableFuture<OptionalLong> future = never.searchAsync(0, Long.MAX_VALUE, pool, 4);
+		Thread.sleep(50);
+		Assert.assertTrue(future.cancel(true));
+		Assert.assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testInvalid() {
+		SHA3 hash = new SHA3(256);
+		try {
+			KeccakNonceSearch.leadingZeroBits(hash, 0);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			KeccakNonceSearch.lessThan(hash, new byte[hash.rateSize() + 1]);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			KeccakNonceSearch.leadingZeroBits(hash, 8).search(0, 1, pool, 0);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		hash.digestArray();
+		try {
+			KeccakNonceSearch.leadingZeroBits(hash, 8);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+	}
+
+	private static byte[] digest(Keccak hash, long nonce) {
+		Keccak.Snapshot snapshot = hash.snapshot();
+		hash.update(longBytes(nonce));
+		byte[] digest = hash.digestArray(hash.rateSize());
+		hash.restore(snapshot);
+		return digest;
+	}
+
+	private static byte[] longBytes(long nonce) {
+		byte[] b = new byte[8];
+		for (int i = 0; i < 8; ++i)
+			b[i] = (byte) (nonce >>> (i << 3));
+		return b;
+	}
+}
@@ -0,0 +1,110 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakOneShotTest {
+	private Random random;
+
+	public KeccakOneShotTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testValid() {
+		for (int n = 0; n <= 400; ++n) {
+			int length = n;
+			byte[] in = new byte[length + 3];
+			random.nextBytes(in);
+
+			//@formatter:off
+			assertHash(new Keccak(224), in, length, new byte[28 + 5], (a, o) -> Keccak.keccak224(a, 3, length, o, 5));
+			assertHash(new Keccak(256), in, length, new byte[32 + 5], (a, o) -> Keccak.keccak256(a, 3, length, o, 5));
+			assertHash(new Keccak(384), in, length, new byte[48 + 5], (a, o) -> Keccak.keccak384(a, 3, length, o, 5));
+			assertHash(new Keccak(512), in, length, new byte[64 + 5], (a, o) -> Keccak.keccak512(a, 3, length, o, 5));
+			assertHash(new SHA3(224),   in, length, new byte[28 + 5], (a, o) -> SHA3.sha3_224(a, 3, length, o, 5));
+			assertHash(new SHA3(256),   in, length, new byte[32 + 5], (a, o) -> SHA3.sha3_256(a, 3, length, o, 5));
+			assertHash(new SHA3(384),   in, length, new byte[48 + 5], (a, o) -> SHA3.sha3_384(a, 3, length, o, 5));
+			assertHash(new SHA3(512),   in, length, new byte[64 + 5], (a, o) -> SHA3.sha3_512(a, 3, length, o, 5));
+			int outLength = random.nextInt(500);
+			assertHash(new SHAKE(128),  in, length, new byte[outLength + 5], (a, o) -> SHAKE.shake128(a, 3, length, o, 5, outLength));
+			assertHash(new SHAKE(256),  in, length, new byte[outLength + 5], (a, o) -> SHAKE.shake256(a, 3, length, o, 5, outLength));
+			//@formatter:on
+		}
+	}
+
+	@Test
+	public void testKernels() {
+		byte[] out = new byte[32 + 5];
+		Keccak.keccak256_32(new byte[32], 0, out, 5);
+		Assert.assertEquals("mismatch", "290decd9548b62a8d60345a988386fc84ba6bc95484008f6362f93160ef3e563", KeccakConsecutiveTest.toHexString(out, 5, 32));
+
+		for (int n = 0; n <= 135; ++n) {
+			int length = n;
+			byte[] in = new byte[length + 3];
+			random.nextBytes(in);
+			assertHash(new Keccak(256), in, length, new byte[32 + 5], (a, o) -> Keccak.keccak256Block(a, 3, length, o, 5));
+		}
+		byte[] in = new byte[64 + 3];
+		random.nextBytes(in);
+		assertHash(new Keccak(256), in, 32, new byte[32 + 5], (a, o) -> Keccak.keccak256_32(a, 3, o, 5));
+		assertHash(new Keccak(256), in, 64, new byte[32 + 5], (a, o) -> Keccak.keccak256_64(a, 3, o, 5));
+
+		long[] lanes = new long[4];
+		Keccak.keccak256_32(0x0706050403020100L, 0x0f0e0d0c0b0a0908L, 0x1716151413121110L, 0x1f1e1d1c1b1a1918L, lanes);
+		Keccak.keccak256Block(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31 }, 0, 32, out, 0);
+		for (int i = 0; i < 32; ++i)
+			Assert.assertEquals("lane mismatch", out[i], (byte) (lanes[i >>> 3] >>> ((i & 0x7) << 3)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testKernelLength() {
+		Keccak.keccak256Block(new byte[136], 0, 136, new byte[32], 0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testInvalidRange() {
+		SHA3.sha3_256(new byte[10], 5, 6, new byte[32], 0);
+	}
+
+	private static void assertHash(Keccak hash, byte[] in, int length, byte[] out, OneShot oneShot) {
+		hash.update(in, 3, length);
+		byte[] expected = new byte[out.length];
+		hash.digest(expected, 5, out.length - 5);
+		oneShot.hash(in, out);
+		Assert.assertArrayEquals(hash + " mismatch (" + length + ")", expected, out);
+	}
+
+	private interface OneShot {
+		void hash(byte[] in, byte[] out);
+	}
+
+	@After
+	public void destroy() {
+	}
+}
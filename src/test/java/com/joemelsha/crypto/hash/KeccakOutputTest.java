@@ -0,0 +1,88 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakOutputTest {
+	private Random random;
+
+	public KeccakOutputTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testValid() throws IOException {
+		for (int bits : new int[] { 128, 256 }) {
+			SHAKE hash = new SHAKE(bits);
+			hash.update(new byte[] { 1, 2, 3 });
+			byte[] expected = new SHAKE(hash).digestArray(50000);
+
+			ReadableByteChannel channel = new SHAKE(hash).outputChannel();
+			byte[] out = new byte[expected.length];
+			for (int i = 0; i < out.length;) {
+				int c = Math.min(out.length - i, random.nextInt(1000));
+				ByteBuffer buffer = random.nextBoolean() ? ByteBuffer.allocate(c) : ByteBuffer.allocateDirect(c);
+				Assert.assertEquals("read", c, channel.read(buffer));
+				Assert.assertFalse("not filled", buffer.hasRemaining());
+				buffer.flip();
+				buffer.get(out, i, c);
+				i += c;
+			}
+			Assert.assertArrayEquals(hash + " channel mismatch", expected, out);
+			channel.close();
+			Assert.assertFalse("open", channel.isOpen());
+
+			InputStream stream = new SHAKE(hash).outputStream();
+			out = new byte[expected.length];
+			for (int i = 0; i < out.length;) {
+				if (random.nextInt(4) == 0) {
+					out[i++] = (byte) stream.read();
+					continue;
+				}
+				int c = Math.min(out.length - i, random.nextInt(1000));
+				Assert.assertEquals("read", c, stream.read(out, i, c));
+				i += c;
+			}
+			Assert.assertArrayEquals(hash + " stream mismatch", expected, out);
+		}
+	}
+
+	@Test(expected = ClosedChannelException.class)
+	public void testClosed() throws IOException {
+		ReadableByteChannel channel = new SHAKE(128).outputChannel();
+		channel.close();
+		channel.read(ByteBuffer.allocate(1));
+	}
+
+	@After
+	public void destroy() {
+	}
+}
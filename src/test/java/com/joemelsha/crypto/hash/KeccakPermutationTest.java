@@ -0,0 +1,116 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakPermutationTest {
+	public KeccakPermutationTest() {
+	}
+
+	@Test
+	public void testDiscover() {
+		List<KeccakPermutation> engines = KeccakPermutations.discover();
+		Assert.assertEquals(2, engines.size());
+		Assert.assertEquals("rolled", engines.get(0).name());
+		Assert.assertEquals("unrolled", engines.get(1).name());
+		for (KeccakPermutation engine : engines)
+			Assert.assertTrue(engine.name(), KeccakPermutations.selfTest(engine));
+		Assert.assertEquals(System.getProperty(KeccakPermutations.PROPERTY, Keccak.permutation().name()), Keccak.permutation().name());
+	}
+
+	@Test
+	public void testSelect() {
+		List<KeccakPermutation> engines = Arrays.asList(new KeccakRolled(), new Broken(), new KeccakUnrolled());
+		Assert.assertEquals(KeccakUnrolled.class, KeccakPermutations.select("unrolled", engines).getClass());
+		Assert.assertEquals(KeccakUnrolled.class, KeccakPermutations.select(KeccakUnrolled.class.getName(), engines).getClass());
+		Assert.assertEquals(KeccakUnrolled.class, KeccakPermutations.select(null, engines).getClass());
+		Assert.assertEquals(KeccakUnrolled.class, KeccakPermutations.select("", engines).getClass());
+		Assert.assertNotEquals(Broken.class, KeccakPermutations.select("fastest", engines).getClass());
+		Assert.assertEquals(KeccakRolled.class, KeccakPermutations.select(null, Arrays.asList(new Broken(), new KeccakRolled())).getClass());
+		Assert.assertEquals(KeccakRolled.class, KeccakPermutations.select(null, Arrays.asList(new Broken(), new KeccakRolled(), new BrokenUnrolled())).getClass());
+		try {
+			KeccakPermutations.select("broken", engines);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+		try {
+			KeccakPermutations.select("missing", engines);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			KeccakPermutations.select(null, Collections.<KeccakPermutation> singletonList(new Broken()));
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+	}
+
+	@Test
+	public void testDefault() {
+		//only unpinned in the test-default execution
+		String property = System.getProperty(KeccakPermutations.PROPERTY);
+		Assume.assumeTrue(property == null || property.isEmpty());
+		Assert.assertEquals(KeccakPermutations.DEFAULT, Keccak.permutation().name());
+		Assert.assertEquals(Keccak.permutation().name(), KeccakPermutations.select().name());
+	}
+
+	@Test
+	public void testRounds() {
+		Random random = new Random(13636363L);
+		for (int rounds = 1; rounds <= 24; ++rounds) {
+			long[] a = new long[25], b = new long[25];
+			for (int i = 0; i < 25; ++i)
+				a[i] = b[i] = random.nextLong();
+			new KeccakRolled().permute(a, rounds);
+			new KeccakUnrolled().permute(b, rounds);
+			Assert.assertArrayEquals(a, b);
+		}
+	}
+
+	private static final class BrokenUnrolled implements KeccakPermutation {
+		@Override
+		public String name() {
+			return "unrolled";
+		}
+
+		@Override
+		public void permute(long[] a, int rounds) {
+			a[0] ^= 1;
+		}
+	}
+
+	private static final class Broken implements KeccakPermutation {
+		@Override
+		public String name() {
+			return "broken";
+		}
+
+		@Override
+		public void permute(long[] a, int rounds) {
+			KeccakRolled.keccak(a, rounds);
+			if (rounds < 24)
+				a[rounds] ^= 1;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakPoolTest {
+	private Random random;
+
+	public KeccakPoolTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testThreadLocal() throws Exception {
+		byte[] in = new byte[300];
+		random.nextBytes(in);
+		SHA3 expected = new SHA3(256);
+		expected.update(in);
+		byte[] digest = expected.digestArray();
+
+		SHA3 hash = SHA3.threadLocal(256);
+		hash.update(in);
+		hash.update(in); //left dirty
+		Assert.assertSame(hash, SHA3.threadLocal(256));
+		hash.update(in);
+		Assert.assertArrayEquals(digest, hash.digestArray());
+		Assert.assertNotSame(hash, SHA3.threadLocal(512));
+		Assert.assertEquals(64, SHA3.threadLocal(512).digestSize());
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Assert.assertNotSame(hash, executor.submit(() -> SHA3.threadLocal(256)).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testReuse() {
+		KeccakPool<SHA3> pool = KeccakPool.sha3(256, 2);
+		SHA3 a = pool.borrow(), b = pool.borrow(), c = pool.borrow();
+		Assert.assertNotSame(a, b);
+		Assert.assertNotSame(b, c);
+		a.update(new byte[1000]);
+		pool.release(a);
+		pool.release(b);
+		pool.release(c); //dropped, the pool is full
+
+		Set<SHA3> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		seen.add(pool.borrow());
+		seen.add(pool.borrow());
+		Assert.assertTrue(seen.contains(a));
+		Assert.assertTrue(seen.contains(b));
+		Assert.assertFalse(seen.contains(pool.borrow()));
+	}
+
+	@Test
+	public void testThreadLocalResized() {
+		SHA3 hash = SHA3.threadLocal(256);
+		hash.reset(512);
+		hash.update(new byte[10]);
+		Assert.assertSame(hash, SHA3.threadLocal(256));
+		Assert.assertEquals(32, hash.digestSize());
+		Assert.assertArrayEquals(new SHA3(256).digestArray(), hash.digestArray());
+		Assert.assertNotSame(hash, SHA3.threadLocal(512));
+	}
+
+	@Test
+	public void testResized() {
+		KeccakPool<SHA3> pool = KeccakPool.sha3(256, 1);
+		SHA3 hash = pool.borrow();
+		hash.reset(512);
+		hash.update(new byte[10]);
+		pool.release(hash);
+		Assert.assertSame(hash, pool.borrow());
+		Assert.assertEquals(32, hash.digestSize());
+		Assert.assertArrayEquals(new SHA3(256).digestArray(), hash.digestArray());
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		KeccakPool<Keccak> pool = KeccakPool.keccak(256, 4);
+		byte[][] inputs = new byte[64][];
+		byte[][] expected = new byte[inputs.length][];
+		for (int i = 0; i < inputs.length; ++i) {
+			inputs[i] = new byte[random.nextInt(1000)];
+			random.nextBytes(inputs[i]);
+			expected[i] = new byte[32];
+			Keccak.keccak256(inputs[i], 0, inputs[i].length, expected[i], 0);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; ++t) {
+				futures.add(executor.submit(() -> {
+					for (int n = 0; n < 2000; ++n) {
+						int i = ThreadLocalRandom.current().nextInt(inputs.length);
+						Keccak hash = pool.borrow();
+						hash.update(inputs[i]);
+						byte[] digest = hash.digestArray();
+						pool.release(hash);
+						Assert.assertArrayEquals(expected[i], digest);
+					}
+				}));
+			}
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.security.*;
+import java.util.*;
+
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakProviderTest {
+	private Provider provider;
+	private Random random;
+
+	public KeccakProviderTest() {
+	}
+
+	@Before
+	public void init() {
+		provider = new KeccakProvider();
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testValid() throws GeneralSecurityException, CloneNotSupportedException {
+		Assert.assertEquals("mismatch", "a7ffc6f8bf1ed76651c14756a061d662f580ff4de43b49fa82d80a4b80f8434a", Hex.encodeHexString(MessageDigest.getInstance("SHA3-256", provider).digest()));
+		Assert.assertEquals("mismatch", "c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470", Hex.encodeHexString(MessageDigest.getInstance("KECCAK-256", provider).digest()));
+		Assert.assertEquals("mismatch", "7f9c2ba4e88f827d616045507605853ed73b8093f6efbc88eb1a6eacfa66ef26", Hex.encodeHexString(MessageDigest.getInstance("SHAKE128-256", provider).digest()));
+		Assert.assertArrayEquals("alias", MessageDigest.getInstance("SHA3-512", provider).digest(), MessageDigest.getInstance("2.16.840.1.101.3.4.2.10", provider).digest());
+
+		//@formatter:off
+		testValid("SHA3-224",     new SHA3(224),   28);
+		testValid("SHA3-256",     new SHA3(256),   32);
+		testValid("SHA3-384",     new SHA3(384),   48);
+		testValid("SHA3-512",     new SHA3(512),   64);
+		testValid("SHAKE128-256", new SHAKE(128),  32);
+		testValid("SHAKE256-512", new SHAKE(256),  64);
+		testValid("KECCAK-224",   new Keccak(224), 28);
+		testValid("KECCAK-256",   new Keccak(256), 32);
+		testValid("KECCAK-384",   new Keccak(384), 48);
+		testValid("KECCAK-512",   new Keccak(512), 64);
+		//@formatter:on
+	}
+
+	private void testValid(String algorithm, Keccak hash, int digestSize) throws GeneralSecurityException, CloneNotSupportedException {
+		MessageDigest digest = MessageDigest.getInstance(algorithm, provider);
+		Assert.assertEquals("digest length", digestSize, digest.getDigestLength());
+		for (int length = 0; length < 600; length += 1 + random.nextInt(50)) {
+			byte[] in = new byte[length];
+			random.nextBytes(in);
+			hash.reset();
+			hash.update(in);
+			byte[] expected = hash.digestArray(digestSize);
+
+			int half = length >>> 1;
+			digest.update(in, 0, half);
+			MessageDigest clone = (MessageDigest) digest.clone();
+			digest.update((ByteBuffer) ByteBuffer.allocateDirect(length - half).put(in, half, length - half).flip());
+			Assert.assertArrayEquals(algorithm + " mismatch (" + length + ")", expected, digest.digest());
+
+			//the clone carries on from the midstate; the original was reset by digest()
+			clone.update(in, half, length - half);
+			byte[] out = new byte[digestSize + 3];
+			Assert.assertEquals("digest length", digestSize, clone.digest(out, 3, digestSize));
+			Assert.assertArrayEquals(algorithm + " clone mismatch (" + length + ")", expected, Arrays.copyOfRange(out, 3, out.length));
+		}
+	}
+
+	@Test(expected = DigestException.class)
+	public void testShortOutput() throws GeneralSecurityException {
+		MessageDigest.getInstance("SHA3-256", provider).digest(new byte[31], 0, 31);
+	}
+
+	@After
+	public void destroy() {
+	}
+}
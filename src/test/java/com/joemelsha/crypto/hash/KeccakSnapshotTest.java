@@ -0,0 +1,121 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakSnapshotTest {
+	private Random random;
+
+	public KeccakSnapshotTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+	}
+
+	@Test
+	public void testValid() {
+		testValid(new Keccak(256), new Keccak(256));
+		testValid(new SHA3(512), new SHA3(512));
+		testValid(new SHAKE(128), new SHAKE(128));
+		testValid(new CSHAKE(256, new byte[] { 'N' }, new byte[] { 'S' }), new CSHAKE(256, new byte[] { 'N' }, new byte[] { 'S' }));
+	}
+
+	private void testValid(Keccak hash, Keccak other) {
+		int outSize = hash instanceof SHA3 ? hash.digestSize() : 100;
+		for (int prefixLength : new int[] { 0, 5, 8, hash.rateSize(), 3 * hash.rateSize() + 13 }) {
+			byte[] prefix = new byte[prefixLength];
+			random.nextBytes(prefix);
+			hash.reset();
+			hash.update(prefix);
+			Keccak.Snapshot snapshot = hash.snapshot();
+
+			for (int i = 0; i < 10; ++i) {
+				byte[] in = new byte[random.nextInt(2 * hash.rateSize())];
+				random.nextBytes(in);
+				other.reset();
+				other.update(prefix);
+				other.update(in);
+				byte[] expected = other.digestArray(outSize);
+
+				hash.restore(snapshot);
+				hash.update(in);
+				Assert.assertArrayEquals(hash + " restore mismatch (" + prefixLength + ")", expected, hash.digestArray(outSize));
+
+				hash.restore(snapshot);
+				other.copyFrom(hash);
+				other.update(in);
+				Assert.assertArrayEquals(hash + " copyFrom mismatch (" + prefixLength + ")", expected, other.digestArray(outSize));
+			}
+		}
+
+		if (hash instanceof SHA3)
+			return;
+
+		//mid-squeeze
+		hash.reset();
+		byte[] expected = hash.digestArray(300);
+		hash.reset();
+		byte[] out = new byte[300];
+		hash.digest(out, 0, 150);
+		Keccak.Snapshot snapshot = hash.snapshot(new Keccak.Snapshot());
+		hash.digest(out, 150, 150);
+		Assert.assertArrayEquals(hash + " squeeze mismatch", expected, out);
+		hash.restore(snapshot);
+		hash.digest(out, 150, 150);
+		Assert.assertArrayEquals(hash + " squeeze mismatch", expected, out);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidType() {
+		new SHA3(256).restore(new Keccak(256).snapshot());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidDomain() {
+		new TurboSHAKE(128, 0x0b).restore(new TurboSHAKE(128, 0x06).snapshot());
+	}
+
+	@Test
+	public void testCustomization() {
+		CSHAKE a = new CSHAKE(128, "N".getBytes(), "S".getBytes());
+		a.restore(new CSHAKE(128, "N".getBytes(), "S".getBytes()).snapshot());
+		new TurboSHAKE(128, 0x0b).restore(new TurboSHAKE(128, 0x0b).snapshot());
+		try {
+			a.restore(new CSHAKE(128, "N".getBytes(), "T".getBytes()).snapshot());
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCopy() {
+		new Keccak(256).copyFrom(new SHAKE(256));
+	}
+
+	@After
+	public void destroy() {
+	}
+}
@@ -1,7 +1,6 @@
 package com.joemelsha.crypto.hash;
 
 import java.nio.*;
-import java.security.*;
 import java.text.*;
 
 /**
@@ -66,7 +65,7 @@ public class KeccakSpeedTest {
 		byte[] in = new byte[payloadSize];
 		ByteBuffer inBuffer = nativeMemory ? ByteBuffer.allocateDirect(payloadSize) : ByteBuffer.wrap(in);
 		ByteBuffer outBuffer = nativeMemory ? ByteBuffer.allocateDirect(digestSize) : ByteBuffer.allocate(digestSize);
-		SecureRandom gen = new SecureRandom();
+		SHAKERandom gen = new SHAKERandom();
 
 		long totalBytes = 0L,
 			 totalElapse = 0L;
@@ -97,7 +96,7 @@ public class KeccakSpeedTest {
 			totalBytes += bytes;
 			totalElapse += elapse;
 
-			System.out.println(payloadSize + " (rand=" + gen.getAlgorithm() + "[seed=" + randomSeed + "]" + ")" + " => " + hash.toString() + " (native=" + nativeMemory + ")" + " => " + digestSize  + "  \t  " + "cur: " + toString(bytes, elapse) + "  \t  " + "avg: " + toString(totalBytes, totalElapse));
+			System.out.println(payloadSize + " (rand=SHAKE256[seed=" + randomSeed + "]" + ")" + " => " + hash.toString() + " (native=" + nativeMemory + ")" + " => " + digestSize  + "  \t  " + "cur: " + toString(bytes, elapse) + "  \t  " + "avg: " + toString(totalBytes, totalElapse));
 		}
 	}
 
@@ -0,0 +1,146 @@
+package com.joemelsha.crypto.hash;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class KeccakStreamTest {
+	private Random random;
+	private byte[] data, expected;
+
+	public KeccakStreamTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+		data = new byte[10000];
+		random.nextBytes(data);
+		SHA3 hash = new SHA3(256);
+		hash.update(data);
+		expected = hash.digestArray();
+	}
+
+	@Test
+	public void testOutputStream() throws IOException {
+		ByteArrayOutputStream copy = new ByteArrayOutputStream();
+		try (KeccakOutputStream out = new KeccakOutputStream(new SHA3(256), copy)) {
+			for (int offset = 0; offset < data.length;) {
+				if (random.nextInt(4) == 0) {
+					out.write(data[offset++]);
+				} else {
+					int n = Math.min(random.nextInt(500), data.length - offset);
+					out.write(data, offset, n);
+					offset += n;
+				}
+			}
+			Assert.assertArrayEquals(expected, out.hash().digestArray());
+		}
+		Assert.assertArrayEquals(data, copy.toByteArray());
+	}
+
+	@Test
+	public void testChannel() throws IOException {
+		ByteArrayOutputStream copy = new ByteArrayOutputStream();
+		WritableByteChannel trickle = new WritableByteChannel() {
+			@Override
+			public int write(ByteBuffer src) {
+				int n = Math.min(src.remaining(), random.nextInt(50));
+				for (int i = 0; i < n; ++i)
+					copy.write(src.get());
+				return n;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		for (boolean direct : new boolean[] { false, true }) {
+			copy.reset();
+			ByteBuffer src = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(data.length);
+			src.put(data).flip();
+			KeccakChannel channel = new KeccakChannel(new SHA3(256), trickle);
+			while (src.hasRemaining()) {
+				src.limit(Math.min(src.position() + random.nextInt(300), data.length));
+				channel.write(src);
+				src.limit(data.length);
+			}
+			Assert.assertArrayEquals(data, copy.toByteArray());
+			Assert.assertArrayEquals(expected, channel.hash().digestArray());
+
+			src.clear();
+			channel = new KeccakChannel(new SHA3(256));
+			Assert.assertEquals(data.length, channel.write(src));
+			Assert.assertArrayEquals(expected, channel.hash().digestArray());
+			channel.close();
+			try {
+				channel.write(src);
+				Assert.fail();
+			} catch (ClosedChannelException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testInputStream() throws IOException {
+		byte[] read = new byte[data.length];
+		try (KeccakInputStream in = new KeccakInputStream(new ByteArrayInputStream(data), new SHA3(256))) {
+			int offset = 0;
+			while (offset < data.length) {
+				switch (random.nextInt(4)) {
+					case 0:
+						read[offset++] = (byte) in.read();
+						break;
+					case 1:
+						//skipped bytes are still absorbed
+						long n = in.skip(random.nextInt(300));
+						System.arraycopy(data, offset, read, offset, (int) n);
+						offset += n;
+						break;
+					case 2:
+						//the stream and the hash both rewind to the mark
+						in.mark(1000);
+						in.read(new byte[random.nextInt(700)]);
+						in.reset();
+						break;
+					default:
+						int c = in.read(read, offset, Math.min(random.nextInt(500), data.length - offset));
+						if (c > 0)
+							offset += c;
+				}
+			}
+			Assert.assertEquals(-1, in.read());
+			Assert.assertArrayEquals(data, read);
+			Assert.assertArrayEquals(expected, in.hash().digestArray());
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+import com.joemelsha.crypto.hash.MerkleTree.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class MerkleTreeTest {
+	private Random random;
+	private ForkJoinPool pool;
+
+	public MerkleTreeTest() {
+	}
+
+	@Before
+	public void init() {
+		random = new Random(13636363L);
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void destroy() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testRoot() {
+		for (Algorithm algorithm : Algorithm.values()) {
+			for (int count = 1; count <= 70; ++count)
+				assertTree(algorithm, count);
+			assertTree(algorithm, 1025);
+			assertTree(algorithm, 4097);
+		}
+	}
+
+	@Test
+	public void testProof() {
+		for (Algorithm algorithm : Algorithm.values()) {
+			for (int count = 1; count <= 70; ++count) {
+				byte[] leaves = new byte[count * MerkleTree.HASH_SIZE];
+				random.nextBytes(leaves);
+				MerkleTree tree = new MerkleTree(leaves, algorithm, null);
+				byte[] root = tree.root();
+				for (int i = 0; i < count; ++i) {
+					byte[] leaf = Arrays.copyOfRange(leaves, i * MerkleTree.HASH_SIZE, (i + 1) * MerkleTree.HASH_SIZE);
+					byte[] proof = tree.proof(i);
+					Assert.assertTrue(MerkleTree.verify(leaf, i, count, proof, root, algorithm));
+					if (count > 1) {
+						if ((i ^ 1) < count)
+							Assert.assertFalse(MerkleTree.verify(leaf, i ^ 1, count, proof, root, algorithm));
+						proof[random.nextInt(proof.length)] ^= 1;
+						Assert.assertFalse(MerkleTree.verify(leaf, i, count, proof, root, algorithm));
+					}
+				}
+			}
+		}
+	}
+
+	private void assertTree(Algorithm algorithm, int count) {
+		byte[] leaves = new byte[count * MerkleTree.HASH_SIZE];
+		random.nextBytes(leaves);
+		byte[] expected = naiveRoot(algorithm, leaves, count);
+		Assert.assertArrayEquals(expected, new MerkleTree(leaves, algorithm, null).root());
+		Assert.assertArrayEquals(expected, new MerkleTree(leaves, algorithm, pool).root());
+	}
+
+	private static byte[] naiveRoot(Algorithm algorithm, byte[] leaves, int count) {
+		List<byte[]> level = new ArrayList<>();
+		for (int i = 0; i < count; ++i)
+			level.add(Arrays.copyOfRange(leaves, i * MerkleTree.HASH_SIZE, (i + 1) * MerkleTree.HASH_SIZE));
+		while (level.size() > 1) {
+			List<byte[]> next = new ArrayList<>();
+			for (int i = 0; i + 1 < level.size(); i += 2) {
+				Keccak hash = algorithm == Algorithm.SHA3_256 ? new SHA3(256) : new Keccak(256);
+				hash.update(level.get(i));
+				hash.update(level.get(i + 1));
+				next.add(hash.digestArray());
+			}
+			if ((level.size() & 1) > 0)
+				next.add(level.get(level.size() - 1));
+			level = next;
+		}
+		return level.get(0);
+	}
+}
@@ -0,0 +1,135 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.commons.codec.*;
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class ParallelHashTest {
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	private ExecutorService executor;
+
+	public ParallelHashTest() {
+	}
+
+	@Before
+	public void init() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@Test
+	public void testCSHAKE() throws DecoderException {
+		//NIST SP 800-185 samples
+		assertCSHAKE(128, "00010203", "", "Email Signature", "c1c36925b6409a04f1b504fcbca9d82b4017277cb5ed2b2065fc1d3814d5aaf5");
+		assertCSHAKE(256, "00010203", "", "Email Signature", "d008828e2b80ac9d2218ffee1d070c48b8e4c87bff32c9699d5b6896eee0edd164020e2be0560858d9c00c037e34a96937c561a74c412bb4c746469527281c8c");
+
+		assertCSHAKE(128, Hex.encodeHexString(TestVectors.ptn(0)), "cSHAKE test", "", "cf7ee6ab8eab2861e6d97101b94f287de8dd99904e78a9fd60a3e890828851dc");
+		assertCSHAKE(128, Hex.encodeHexString(TestVectors.ptn(200)), "cSHAKE test", "Email Signature", "4371f6851de4af2c634de3794b70c8bd6beb454251436080d6c6aedb9c064e03");
+		assertCSHAKE(256, Hex.encodeHexString(TestVectors.ptn(200)), "cSHAKE test", "Email Signature", "4bb1b0ab074203ce03c752d5cee934ea0483471f86395794c96c87534657cff1d1103b1a43de3adf7896cca43b112aee1990553b467e744172790ebae36a7d40");
+		assertCSHAKE(256, Hex.encodeHexString(TestVectors.ptn(1000)), "cSHAKE test", "", "9b615a8e065b6ae787c7454f5f2bfe416802167465bf3ded70d69036d814e74053768e1e509412d468629866bc38ff3285e9d7751451ac0b392e322c1188f0da");
+
+		//empty N and S is SHAKE
+		SHAKE shake = new SHAKE(128);
+		shake.update(TestVectors.ptn(300));
+		assertCSHAKE(128, Hex.encodeHexString(TestVectors.ptn(300)), "", "", Hex.encodeHexString(shake.digestArray(32)));
+	}
+
+	@Test
+	public void testValid() throws DecoderException {
+		//NIST SP 800-185 samples
+		//@formatter:off
+		String x = "000102030405060710111213141516172021222324252627";
+		assertHash(128, 8, "",          256, x, "ba8dc1d1d979331d3f813603c67f72609ab5e44b94a0b8f9af46514454a2b4f5");
+		assertHash(128, 8, "Parallel Data", 256, x, "fc484dcb3f84dceedc353438151bee58157d6efed0445a81f165e495795b7206");
+		assertHash(256, 8, "",          512, x, "bc1ef124da34495e948ead207dd9842235da432d2bbc54b4c110e64c451105531b7f2a3e0ce055c02805e7c2de1fb746af97a1dd01f43b824e31b87612410429");
+		assertHash(256, 8, "Parallel Data", 512, x, "cdf15289b54f6212b4bc270528b49526006dd9b54e2b6add1ef6900dda3963bb33a72491f236969ca8afaea29c682d47a393c065b38e29fae651a2091c833110");
+
+		assertHash(128, 8, "",              256, Hex.encodeHexString(TestVectors.ptn(0)), "96427c30224408859f95e89e4fa84e1c7a1478dbf2008ac982ce61a77f37a272");
+		assertHash(128, 8, "",              256, Hex.encodeHexString(TestVectors.ptn(24)), "f188ecfc905fe6b3462f22d94d4568b2c0dbae9c3de2581ba39aa35c6fbd5f98");
+		assertHash(256, 8, "Parallel Data", 512, Hex.encodeHexString(TestVectors.ptn(24)), "7a50d744ff9e07f62c86b8f85e7f2f08ec8703f5432219bf1dc0f874adf355201e1279799b73fa566373d6f10c22e3602c5dab1717c80eb719aa7aa877d299f0");
+		assertHash(128, 1024, "Parallel Data", 256, Hex.encodeHexString(TestVectors.ptn(5000)), "04ff6901ccf1d7434d732305946c0c6703fd2e2acb26c38710843b0b170d523c");
+		assertHash(256, 100, "",            512, Hex.encodeHexString(TestVectors.ptn(12345)), "37a877a6e538c8ec524b43574e854fa08a9c0357c1981f3e07b848fa412e9966eca613764bccfe177326b8202969de39261960d24093b767b278d85bceba744d");
+		//XOF
+		assertHash(128, 136, "Parallel Data", 0, Hex.encodeHexString(TestVectors.ptn(1000)), "207e455bc3eee3e081f61a6782a6d587bec007422d93e1b420db15d42ed99142912ac61ea3e79fafe62ff122ad1426670d4bb5066f87e1e94f6b6670e12b61d8");
+		assertHash(256, 200, "",            0, Hex.encodeHexString(TestVectors.ptn(0)), "e2bb7b5846c46504283d0f39efe42b5d094de5e9be45cb44de019af92b63c15b2ae617c902c9de828b95685c04017eb19b8c7df9dd42299eedbd89001e27aaf3");
+		//@formatter:on
+	}
+
+	@Test
+	public void testStreaming() {
+		Random random = new Random(13636363L);
+		for (int length : new int[] { 0, 1, 999, 1000, 1001, 64 * 1000 + 3, (3 << 20) + 17 }) {
+			byte[] in = new byte[length];
+			random.nextBytes(in);
+			byte[] customization = new byte[random.nextInt(20)];
+			random.nextBytes(customization);
+
+			ParallelHash reference = new ParallelHash(256, 1000, customization, 512, null);
+			reference.update(in);
+			String expected = Hex.encodeHexString(reference.digestArray());
+			for (Executor executor : new Executor[] { null, this.executor }) {
+				ParallelHash hash = new ParallelHash(256, 1000, customization, 512, executor);
+				for (int round = 0; round < 2; ++round) {
+					hash.reset();
+					ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+					buffer.put(in).flip();
+					while (buffer.hasRemaining()) {
+						ByteBuffer piece = buffer.duplicate();
+						piece.limit(Math.min(buffer.limit(), buffer.position() + random.nextInt(40000)));
+						hash.update(piece);
+						buffer.position(piece.position());
+					}
+					byte[] out = new byte[64];
+					hash.digest(out, 0, 20);
+					hash.digest(out, 20, 44);
+					Assert.assertEquals("mismatch (" + length + ", " + executor + ")", expected, Hex.encodeHexString(out));
+				}
+			}
+		}
+	}
+
+	private void assertCSHAKE(int bits, String in, String functionName, String customization, String expected) throws DecoderException {
+		CSHAKE hash = new CSHAKE(bits, functionName.getBytes(US_ASCII), customization.getBytes(US_ASCII));
+		for (int round = 0; round < 2; ++round) {
+			hash.reset();
+			hash.update(Hex.decodeHex(in.toCharArray()));
+			Assert.assertEquals("mismatch", expected, Hex.encodeHexString(hash.digestArray(bits >>> 2)));
+		}
+	}
+
+	private void assertHash(int bits, int blockSize, String customization, int digestSizeBits, String in, String expected) throws DecoderException {
+		ParallelHash hash = new ParallelHash(bits, blockSize, customization.getBytes(US_ASCII), digestSizeBits, executor);
+		hash.update(Hex.decodeHex(in.toCharArray()));
+		Assert.assertEquals("mismatch", expected, Hex.encodeHexString(hash.digestArray(expected.length() >>> 1)));
+	}
+
+	@After
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,115 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class SHAKERandomTest {
+	public SHAKERandomTest() {
+	}
+
+	@Before
+	public void init() {
+	}
+
+	@Test
+	public void testValid() {
+		byte[] seed = { 1, 2, 3, 4, 5 };
+		SHAKE reference = new SHAKE(256);
+		reference.update(seed);
+		byte[] expected = reference.digestArray(2000);
+
+		//lanes are served little-endian, whole; bytes carry on from the next lane boundary
+		SHAKERandom random = new SHAKERandom(seed);
+		byte[] out = new byte[expected.length];
+		int i = 0;
+		for (; i < 800; i += 8) {
+			long w = random.nextLong();
+			for (int b = 0; b < 8; ++b)
+				out[i + b] = (byte) (w >>> (b << 3));
+		}
+		byte[] bytes = new byte[101];
+		random.nextBytes(bytes);
+		System.arraycopy(bytes, 0, out, i, bytes.length);
+		System.arraycopy(expected, i + 101, out, i + 101, 3); //skipped
+		i += 104;
+		int n = random.nextInt();
+		for (int b = 4; b < 8; ++b, n >>>= 8)
+			out[i + b] = (byte) n;
+		System.arraycopy(expected, i, out, i, 4); //the discarded low half
+		i += 8;
+		System.arraycopy(expected, i, out, i, expected.length - i);
+		Assert.assertArrayEquals("mismatch", expected, out);
+
+		//reproducible
+		SHAKERandom a = new SHAKERandom(13636363L), b = new SHAKERandom(13636363L);
+		for (int j = 0; j < 1000; ++j)
+			Assert.assertEquals("mismatch", a.nextLong(), b.nextLong());
+		a.setSeed(7L);
+		b.setSeed(7L);
+		Assert.assertEquals("mismatch", a.nextDouble(), b.nextDouble(), 0.0);
+		Assert.assertNotEquals("seeded alike", new SHAKERandom(7L).nextLong(), new SHAKERandom(8L).nextLong());
+
+		//bounded draws stay in range
+		for (int j = 0; j < 10000; ++j) {
+			int k = a.nextInt(37);
+			Assert.assertTrue("range", k >= 0 && k < 37);
+			double d = a.nextDouble();
+			Assert.assertTrue("range", d >= 0.0 && d < 1.0);
+		}
+	}
+
+	@Test
+	public void testReseed() {
+		//nextGaussian() caches its second value, which a reseed must drop
+		byte[] seed = "reseed".getBytes();
+		double[] expected = gaussians(new SHAKERandom(seed)), expectedLong = gaussians(new SHAKERandom(42L));
+		SHAKERandom random = new SHAKERandom(7L);
+		random.nextGaussian();
+		random.setSeed(seed);
+		Assert.assertArrayEquals(expected, gaussians(random), 0);
+		random.nextGaussian();
+		random.setSeed(42L);
+		Assert.assertArrayEquals(expectedLong, gaussians(random), 0);
+	}
+
+	private static double[] gaussians(Random random) {
+		double[] values = new double[5];
+		for (int i = 0; i < values.length; ++i)
+			values[i] = i == 2 ? random.nextLong() : random.nextGaussian();
+		return values;
+	}
+
+	@Test
+	public void testSplit() {
+		SHAKERandom a = new SHAKERandom(13636363L), b = new SHAKERandom(13636363L);
+		SHAKERandom c = a.split(), d = b.split();
+		Assert.assertEquals("mismatch", c.nextLong(), d.nextLong());
+		Assert.assertEquals("mismatch", a.nextLong(), b.nextLong());
+		Assert.assertNotEquals("correlated", a.nextLong(), c.nextLong());
+	}
+
+	@After
+	public void destroy() {
+	}
+}
@@ -0,0 +1,36 @@
+package com.joemelsha.crypto.hash;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+final class TestVectors {
+	private TestVectors() {
+	}
+
+	/**
+	 * ptn(n) of RFC 9861, the byte pattern 00 01 .. FA repeated.
+	 */
+	static byte[] ptn(int length) {
+		byte[] b = new byte[length];
+		for (int i = 0; i < length; ++i)
+			b[i] = (byte) (i % 251);
+		return b;
+	}
+}
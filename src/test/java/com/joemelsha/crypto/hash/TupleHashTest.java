@@ -0,0 +1,87 @@
+package com.joemelsha.crypto.hash;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+import org.apache.commons.codec.*;
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class TupleHashTest {
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	public TupleHashTest() {
+	}
+
+	@Before
+	public void init() {
+	}
+
+	@Test
+	public void testValid() throws DecoderException {
+		//NIST SP 800-185 samples
+		//@formatter:off
+		assertHash(128, "",             256, "c5d8786c1afb9b82111ab34b65b2c0048fa64e6d48e263264ce1707d3ffc8ed1", "000102", "101112131415");
+		assertHash(128, "My Tuple App", 256, "75cdb20ff4db1154e841d758e24160c54bae86eb8c13e7f5f40eb35588e96dfb", "000102", "101112131415");
+		assertHash(128, "My Tuple App", 256, "e60f202c89a2631eda8d4c588ca5fd07f39e5151998deccf973adb3804bb6e84", "000102", "101112131415", "202122232425262728");
+		assertHash(256, "",             512, "cfb7058caca5e668f81a12a20a2195ce97a925f1dba3e7449a56f82201ec607311ac2696b1ab5ea2352df1423bde7bd4bb78c9aed1a853c78672f9eb23bbe194", "000102", "101112131415");
+		//@formatter:on
+
+		String empty = "";
+		String p300 = Hex.encodeHexString(TestVectors.ptn(300));
+		//@formatter:off
+		assertHash(128, "",             256, "786aa3d4fcaadf0aa723a4818a1a72de2330d613e5de7ae4eb6cb4cdd26adba2");
+		assertHash(128, "",             256, "549330469327c593eb95b1d467c48e5781939e135e10632c804ef8a69c73281c", empty);
+		assertHash(128, "",             256, "bba3b0b0d207713b1c507afca7c64492e6a0b43b7d76b1b3ad593a5ab0fa98ac", empty, empty);
+		//XOF
+		assertHash(256, "",             0,   "a60936bc2a8f4f27926755f06c8901925fa64718a8112e1e5d0e53c7474c60b439a12ac09b0b962407762ebc9e81c8216989877c65282b324082dd73d98e3471", Hex.encodeHexString(TestVectors.ptn(1000)));
+		//@formatter:on
+		Assert.assertNotEquals("ambiguous", digest(p300.substring(0, 10), p300.substring(10)), digest(p300.substring(0, 12), p300.substring(12)));
+	}
+
+	private void assertHash(int bits, String customization, int digestSizeBits, String expected, String... in) throws DecoderException {
+		TupleHash hash = new TupleHash(bits, customization.getBytes(US_ASCII), digestSizeBits);
+		for (int round = 0; round < 2; ++round) {
+			hash.reset();
+			for (int i = 0; i < in.length; ++i) {
+				byte[] element = Hex.decodeHex(in[i].toCharArray());
+				if ((i & 1) == 0)
+					hash.add(element);
+				else
+					hash.add((ByteBuffer) ByteBuffer.allocateDirect(element.length).put(element).flip());
+			}
+			Assert.assertEquals("mismatch", expected, Hex.encodeHexString(hash.digestArray(expected.length() >>> 1)));
+		}
+	}
+
+	private static String digest(String... in) throws DecoderException {
+		TupleHash hash = new TupleHash(128, new byte[0]);
+		for (String element : in)
+			hash.add(Hex.decodeHex(element.toCharArray()));
+		return Hex.encodeHexString(hash.digestArray());
+	}
+
+	@After
+	public void destroy() {
+	}
+}
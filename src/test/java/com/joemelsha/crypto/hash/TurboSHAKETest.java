@@ -0,0 +1,77 @@
+package com.joemelsha.crypto.hash;
+
+import java.util.*;
+
+import org.apache.commons.codec.*;
+import org.apache.commons.codec.binary.*;
+import org.junit.*;
+
+/**
+ * @author Joseph Robert Melsha (joe.melsha@live.com)
+ *
+ * Source: https://github.com/jrmelsha/keccak
+ * Created: Oct 17, 2026
+ *
+ * Copyright 2016 Joseph Robert Melsha
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class TurboSHAKETest {
+	public TurboSHAKETest() {
+	}
+
+	@Test
+	public void testValid() throws DecoderException {
+		//RFC 9861 test vectors
+		//@formatter:off
+		assertHash(128, new byte[0], 0x1f, 32, "1e415f1c5983aff2169217277d17bb538cd945a397ddec541f1ce41af2c1b74c");
+		assertHash(128, Hex.decodeHex("ffffff".toCharArray()), 0x01, 32, "bf323f940494e88ee1c540fe660be8a0c93f43d15ec006998462fa994eed5dab");
+		assertHash(128, Hex.decodeHex("ff".toCharArray()), 0x06, 32, "8ec9c66465ed0d4a6c35d13506718d687a25cb05c74cca1e42501abd83874a67");
+		assertHash(128, Hex.decodeHex("ffffff".toCharArray()), 0x07, 32, "b658576001cad9b1e5f399a9f77723bba05458042d68206f7252682dba3663ed");
+		assertHash(256, new byte[0], 0x1f, 64, "367a329dafea871c7802ec67f905ae13c57695dc2c6663c61035f59a18f8e7db11edc0e12e91ea60eb6b32df06dd7f002fbafabb6e13ec1cc20d995547600db0");
+		//@formatter:on
+	}
+
+	@Test
+	public void testOneShot() {
+		Random random = new Random(13636363L);
+		for (int length = 0; length <= 400; ++length) {
+			byte[] in = new byte[length];
+			random.nextBytes(in);
+			int domain = 1 + random.nextInt(0x7f);
+			int outLength = random.nextInt(500);
+			for (int digestSizeBits : new int[] { 128, 256 }) {
+				TurboSHAKE hash = new TurboSHAKE(digestSizeBits, domain);
+				hash.update(in);
+				byte[] expected = hash.digestArray(outLength);
+				byte[] out = new byte[outLength];
+				if (digestSizeBits == 128)
+					TurboSHAKE.turboshake128(in, 0, length, out, 0, outLength, domain);
+				else
+					TurboSHAKE.turboshake256(in, 0, length, out, 0, outLength, domain);
+				Assert.assertArrayEquals(expected, out);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidDomain() {
+		new TurboSHAKE(128, 0x80);
+	}
+
+	private static void assertHash(int digestSizeBits, byte[] in, int domain, int outLength, String expected) {
+		TurboSHAKE hash = new TurboSHAKE(digestSizeBits, domain);
+		hash.update(in);
+		Assert.assertEquals("mismatch", expected, Hex.encodeHexString(hash.digestArray(outLength)));
+	}
+}